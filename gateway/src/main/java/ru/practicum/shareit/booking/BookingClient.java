@@ -2,27 +2,33 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
 
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory shareItServerRequestFactory,
+                         RequestCoalescer requestCoalescer) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> shareItServerRequestFactory)
+                        .build(),
+                requestCoalescer
         );
     }
 
@@ -30,22 +36,26 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookersBookings(String state, long bookerId, Integer from, Integer size) {
+    public ResponseEntity<Object> getBookersBookings(String state, long bookerId, Integer from, Integer size,
+                                                     String cursor) {
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
-                "size", size
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
         );
-        return get("?state={state}&from={from}&size={size}", bookerId, parameters);
+        return get("?state={state}&from={from}&size={size}&cursor={cursor}", bookerId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsOfOwnItems(String state, long ownerId, Integer from, Integer size) {
+    public ResponseEntity<Object> getBookingsOfOwnItems(String state, long ownerId, Integer from, Integer size,
+                                                     String cursor) {
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
-                "size", size
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
         );
-        return get("/owner?state={state}&from={from}&size={size}", ownerId, parameters);
+        return get("/owner?state={state}&from={from}&size={size}&cursor={cursor}", ownerId, parameters);
     }
 
     public ResponseEntity<Object> postBooking(BookingDto bookingDto, long bookerId) {
@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -15,6 +16,7 @@ import javax.validation.constraints.PositiveOrZero;
 import static ru.practicum.shareit.booking.BookingValidator.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 @Slf4j
@@ -36,13 +38,14 @@ public class BookingController {
             @RequestParam(defaultValue = "ALL") String state,
             @RequestHeader(HEADER_USER_ID) Long bookerId,
             @RequestParam(required = false) @PositiveOrZero Integer from,
-            @RequestParam(required = false) @Positive Integer size
+            @RequestParam(required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         log.info("Request on getting own bookings by state = \"{}\" by booker with id = {} " +
-                        "with page parameters from = {} and size = {} has been received",
-                state, bookerId, from, size);
+                        "with page parameters from = {}, size = {} and cursor = {} has been received",
+                state, bookerId, from, size, cursor);
         return bookingClient.getBookersBookings(validateBookingState(state).name(), bookerId,
-                from == null ? 0 : from, size == null ? 10 : size);
+                from == null ? 0 : from, size == null ? 10 : size, cursor);
     }
 
     @GetMapping("/owner")
@@ -50,13 +53,14 @@ public class BookingController {
             @RequestParam(defaultValue = "ALL") String state,
             @RequestHeader(HEADER_USER_ID) Long ownerId,
             @RequestParam(required = false) @PositiveOrZero Integer from,
-            @RequestParam(required = false) @Positive Integer size
+            @RequestParam(required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         log.info("Request on getting bookings on own items by state = \"{}\" by owner with id = {} " +
-                        "with page parameters from = {} and size = {} has been received",
-                state, ownerId, from, size);
+                        "with page parameters from = {}, size = {} and cursor = {} has been received",
+                state, ownerId, from, size, cursor);
         return bookingClient.getBookingsOfOwnItems(validateBookingState(state).name(), ownerId,
-                from == null ? 0 : from, size == null ? 10 : size);
+                from == null ? 0 : from, size == null ? 10 : size, cursor);
     }
 
     @PostMapping()
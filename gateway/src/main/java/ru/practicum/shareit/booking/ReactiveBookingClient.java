@@ -0,0 +1,68 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    @Autowired
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                 ClientHttpConnector shareItServerConnector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareItServerConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> getBooking(Long bookingId, long userId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookersBookings(String state, long bookerId, Integer from, Integer size,
+                                                           String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("?state={state}&from={from}&size={size}&cursor={cursor}", bookerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsOfOwnItems(String state, long ownerId, Integer from, Integer size,
+                                                           String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("/owner?state={state}&from={from}&size={size}&cursor={cursor}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> postBooking(BookingDto bookingDto, long bookerId) {
+        return post("", bookerId, bookingDto);
+    }
+
+    public Mono<ResponseEntity<Object>> patchBooking(Long bookingId, long userId, Boolean approved) {
+        Map<String, Object> parameters = Map.of(
+                "approved", approved
+        );
+        return patch("/" + bookingId + "?approved={approved}", userId, parameters);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingDto;
+
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+
+import static ru.practicum.shareit.booking.BookingValidator.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getBookingByIdAndUserId(@PathVariable Long id,
+                                                                @RequestHeader(HEADER_USER_ID) Long userId) {
+        log.info("Request on getting booking with id = {} by user with id = {} has been received", id, userId);
+        return bookingClient.getBooking(id, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getBookingsByStateAndBookerId(
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestHeader(HEADER_USER_ID) Long bookerId,
+            @RequestParam(required = false) @PositiveOrZero Integer from,
+            @RequestParam(required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        log.info("Request on getting own bookings by state = \"{}\" by booker with id = {} " +
+                        "with page parameters from = {}, size = {} and cursor = {} has been received",
+                state, bookerId, from, size, cursor);
+        return bookingClient.getBookersBookings(validateBookingState(state).name(), bookerId,
+                from == null ? 0 : from, size == null ? 10 : size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Object>> getBookingsByStateAndOwnerId(
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestHeader(HEADER_USER_ID) Long ownerId,
+            @RequestParam(required = false) @PositiveOrZero Integer from,
+            @RequestParam(required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        log.info("Request on getting bookings on own items by state = \"{}\" by owner with id = {} " +
+                        "with page parameters from = {}, size = {} and cursor = {} has been received",
+                state, ownerId, from, size, cursor);
+        return bookingClient.getBookingsOfOwnItems(validateBookingState(state).name(), ownerId,
+                from == null ? 0 : from, size == null ? 10 : size, cursor);
+    }
+
+    @PostMapping()
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<Object>> createBooking(@RequestBody BookingDto bookingDto,
+                                              @RequestHeader(HEADER_USER_ID) Long bookerId) {
+        log.info("Request on posting booking with\nitemId = {}\nstartDate = {}\nendDate = {}\nhas been received",
+                bookingDto.getItemId(),
+                bookingDto.getStart(),
+                bookingDto.getEnd());
+        validateForCreation(bookingDto);
+        return bookingClient.postBooking(bookingDto, bookerId);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Object>> updateBookingStatus(@PathVariable Long id,
+                                                    @RequestHeader(HEADER_USER_ID) Long userId,
+                                                    @RequestParam Boolean approved) {
+        return bookingClient.patchBooking(id, userId, approved);
+    }
+}
\ No newline at end of file
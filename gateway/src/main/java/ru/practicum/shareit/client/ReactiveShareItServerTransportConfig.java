@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveShareItServerTransportConfig {
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareItServerConnectionProvider(
+            @Value("${shareit-server.pool.max-per-route:100}") int maxPerRoute,
+            @Value("${shareit-server.pool.max-pending:10000}") int maxPending,
+            @Value("${shareit-server.pool.lease-timeout:1000}") long leaseTimeout,
+            @Value("${shareit-server.pool.idle-timeout:30000}") long idleTimeout,
+            @Value("${shareit-server.pool.time-to-live:300000}") long timeToLive) {
+        return ConnectionProvider.builder(ShareItServerTransportConfig.POOL_NAME)
+                .maxConnections(maxPerRoute)
+                .pendingAcquireMaxCount(maxPending)
+                .pendingAcquireTimeout(Duration.ofMillis(leaseTimeout))
+                .maxIdleTime(Duration.ofMillis(idleTimeout))
+                .maxLifeTime(Duration.ofMillis(timeToLive))
+                .evictInBackground(Duration.ofMillis(idleTimeout))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector shareItServerConnector(
+            ConnectionProvider shareItServerConnectionProvider,
+            @Value("${shareit-server.connect-timeout:1000}") int connectTimeout,
+            @Value("${shareit-server.read-timeout:10000}") long readTimeout) {
+        return new ReactorClientHttpConnector(HttpClient.create(shareItServerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .responseTimeout(Duration.ofMillis(readTimeout)));
+    }
+}
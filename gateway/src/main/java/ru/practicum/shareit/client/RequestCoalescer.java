@@ -0,0 +1,111 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestCoalescer {
+    static final String METRIC_NAME = "shareit.gateway.coalescing.requests";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Counter> forwardedCounters = new LinkedHashMap<>();
+    private final Map<String, Counter> collapsedCounters = new LinkedHashMap<>();
+    private final Map<CallKey, CompletableFuture<ResponseEntity<Object>>> calls = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(@Value("${shareit-server.coalescing.routes:}") List<String> routes,
+                            MeterRegistry meterRegistry) {
+        routes.stream()
+                .filter(route -> !route.isBlank())
+                .forEach(route -> {
+                    forwardedCounters.put(route, createCounter(meterRegistry, route, "forwarded"));
+                    collapsedCounters.put(route, createCounter(meterRegistry, route, "collapsed"));
+                });
+    }
+
+    public ResponseEntity<Object> execute(URI uri, HttpHeaders headers, Supplier<ResponseEntity<Object>> request) {
+        String route = findRoute(uri.getPath());
+        if (route == null) {
+            return request.get();
+        }
+
+        CallKey key = new CallKey(uri.getPath(), uri + " " + headers);
+        CompletableFuture<ResponseEntity<Object>> call = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> sharedCall = calls.putIfAbsent(key, call);
+        if (sharedCall != null) {
+            collapsedCounters.get(route).increment();
+            return join(sharedCall);
+        }
+
+        forwardedCounters.get(route).increment();
+        try {
+            ResponseEntity<Object> response = request.get();
+            call.complete(response);
+            return response;
+        } catch (RuntimeException | Error exception) {
+            call.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    public void invalidate(URI uri) {
+        String resource = getResource(uri.getPath());
+        calls.keySet().removeIf(key -> getResource(key.getPath()).equals(resource));
+    }
+
+    private String getResource(String path) {
+        int resourceEnd = path.indexOf('/', 1);
+        return resourceEnd < 0 ? path : path.substring(0, resourceEnd);
+    }
+
+    private String findRoute(String path) {
+        return forwardedCounters.keySet().stream()
+                .filter(route -> pathMatcher.match(route, path))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private ResponseEntity<Object> join(CompletableFuture<ResponseEntity<Object>> call) {
+        try {
+            return call.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private Counter createCounter(MeterRegistry meterRegistry, String route, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("Idempotent GET requests to the server by whether they were forwarded or collapsed")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Data
+    private static class CallKey {
+        private final String path;
+        private final String request;
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ShareItServerTransportConfig {
+    static final String POOL_NAME = "shareit-server";
+
+    @Bean(destroyMethod = "shutdown")
+    public MeteredConnectionManager shareItServerConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${shareit-server.pool.max-total:200}") int maxTotal,
+            @Value("${shareit-server.pool.max-per-route:100}") int maxPerRoute,
+            @Value("${shareit-server.pool.validate-after-inactivity:2000}") int validateAfterInactivity,
+            @Value("${shareit-server.pool.time-to-live:300000}") long timeToLive) {
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager(timeToLive,
+                meterRegistry, POOL_NAME);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public ClientHttpRequestFactory shareItServerRequestFactory(
+            MeteredConnectionManager shareItServerConnectionManager,
+            @Value("${shareit-server.connect-timeout:1000}") int connectTimeout,
+            @Value("${shareit-server.read-timeout:10000}") int readTimeout,
+            @Value("${shareit-server.pool.lease-timeout:1000}") int leaseTimeout,
+            @Value("${shareit-server.pool.idle-timeout:30000}") long idleTimeout) {
+        HttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(shareItServerConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeout)
+                        .setSocketTimeout(readTimeout)
+                        .setConnectionRequestTimeout(leaseTimeout)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+}
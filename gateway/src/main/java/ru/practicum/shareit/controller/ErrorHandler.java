@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 import ru.practicum.shareit.error.ErrorResponse;
 import ru.practicum.shareit.error.FieldViolation;
 import ru.practicum.shareit.exception.*;
@@ -50,6 +51,13 @@ public class ErrorHandler {
         return new ErrorResponse(exception.getMessage());
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleReactiveBadRequestError(ServerWebInputException exception) {
+        log.warn("Bad request received.\n{}", exception.getReason());
+        return new ErrorResponse(exception.getReason());
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleEmptyObjectError(EmptyObjectException exception) {
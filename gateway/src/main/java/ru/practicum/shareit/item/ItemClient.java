@@ -2,28 +2,34 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory shareItServerRequestFactory,
+                      RequestCoalescer requestCoalescer) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> shareItServerRequestFactory)
+                        .build(),
+                requestCoalescer
         );
     }
 
@@ -35,12 +41,13 @@ public class ItemClient extends BaseClient {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> getAllOwnersItems(long ownerId, Integer from, Integer size) {
+    public ResponseEntity<Object> getAllOwnersItems(long ownerId, Integer from, Integer size, String cursor) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
-                "size", size
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
         );
-        return get("?from={from}&size={size}", ownerId, parameters);
+        return get("?from={from}&size={size}&cursor={cursor}", ownerId, parameters);
     }
 
     public ResponseEntity<Object> postItem(ItemDto itemDto, long ownerId) {
@@ -59,13 +66,47 @@ public class ItemClient extends BaseClient {
         return delete("");
     }
 
-    public ResponseEntity<Object> searchItems(String query, Integer from, Integer size) {
+    public ResponseEntity<Object> searchItems(String query, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "text", query,
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", parameters);
+    }
+
+    public ResponseEntity<Object> searchItems(String query, String start, String end, Integer from, Integer size,
+                                              String cursor) {
         Map<String, Object> parameters = Map.of(
                 "text", query,
+                "start", start,
+                "end", end,
                 "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("/search?text={text}&start={start}&end={end}&from={from}&size={size}&cursor={cursor}",
+                parameters);
+    }
+
+    public ResponseEntity<Object> suggestItemNames(String prefix, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", parameters);
+        return get("/suggest?prefix={prefix}&size={size}", parameters);
+    }
+
+    public ResponseEntity<Object> getItemAvailability(Long itemId, long userId, String from, String to,
+                                                      Boolean includeWaiting) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to,
+                "includeWaiting", includeWaiting
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}&includeWaiting={includeWaiting}",
+                userId, parameters);
     }
 
     public ResponseEntity<Object> postComment(CommentDto commentDto, Long itemId, long userId) {
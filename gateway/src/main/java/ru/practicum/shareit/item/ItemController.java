@@ -2,6 +2,7 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -18,6 +19,7 @@ import static ru.practicum.shareit.item.ItemValidator.*;
 import static ru.practicum.shareit.item.CommentValidator.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/items")
 @RequiredArgsConstructor
 @Slf4j
@@ -43,10 +45,12 @@ public class ItemController {
     @GetMapping
     public ResponseEntity<Object> getAllItemsByOwnerId(@RequestHeader(HEADER_USER_ID) Long ownerId,
                                               @RequestParam(required = false) @PositiveOrZero Integer from,
-                                              @RequestParam(required = false) @Positive Integer size) {
+                                              @RequestParam(required = false) @Positive Integer size,
+                                              @RequestParam(required = false) String cursor) {
         log.info("Request on getting all items of user with id = {} " +
-                "with page parameters from = {} and size = {} has been received", ownerId, from, size);
-        return itemClient.getAllOwnersItems(ownerId, from == null ? 0 : from, size == null ? 10 : size);
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                ownerId, from, size, cursor);
+        return itemClient.getAllOwnersItems(ownerId, from == null ? 0 : from, size == null ? 10 : size, cursor);
     }
 
     @PostMapping
@@ -93,11 +97,41 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<Object> searchItems(@RequestParam("text") String query,
+                                     @RequestParam(required = false) String start,
+                                     @RequestParam(required = false) String end,
                                      @RequestParam(required = false) @PositiveOrZero Integer from,
-                                     @RequestParam(required = false) @Positive Integer size) {
-        log.info("Request on getting items by searchQuery = \"{}\" " +
-                "with page parameters from = {} and size = {} has been received", query, from, size);
-        return itemClient.searchItems(query.toLowerCase(), from == null ? 0 : from, size == null ? 10 : size);
+                                     @RequestParam(required = false) @Positive Integer size,
+                                     @RequestParam(required = false) String cursor) {
+        log.info("Request on getting items by searchQuery = \"{}\" free from {} till {} " +
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                query, start, end, from, size, cursor);
+        if (start == null && end == null) {
+            return itemClient.searchItems(query.toLowerCase(), from == null ? 0 : from, size == null ? 10 : size,
+                    cursor);
+        }
+        validateSearchPeriod(start, end);
+        return itemClient.searchItems(query.toLowerCase(), start, end, from == null ? 0 : from,
+                size == null ? 10 : size, cursor);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Object> suggestItemNames(@RequestParam String prefix,
+                                                   @RequestParam(required = false) @Positive Integer size) {
+        log.info("Request on getting item name suggestions by prefix = \"{}\" " +
+                "with size = {} has been received", prefix, size);
+        return itemClient.suggestItemNames(prefix.toLowerCase(), size == null ? 10 : size);
+    }
+
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<Object> getItemAvailability(@PathVariable Long id,
+                                                      @RequestHeader(HEADER_USER_ID) Long userId,
+                                                      @RequestParam String from,
+                                                      @RequestParam String to,
+                                                      @RequestParam(defaultValue = "false") Boolean includeWaiting) {
+        log.info("Request on getting availability of item with id = {} from {} till {} " +
+                "with includeWaiting = {} by user with id = {} has been received", id, from, to, includeWaiting, userId);
+        validateAvailabilityPeriod(from, to);
+        return itemClient.getItemAvailability(id, userId, from, to, includeWaiting);
     }
 
     @PostMapping("/{id}/comment")
@@ -6,6 +6,8 @@ import ru.practicum.shareit.exception.EmptyObjectException;
 import ru.practicum.shareit.exception.FieldValidationException;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -65,4 +67,65 @@ public class ItemValidator {
             throw new FieldValidationException(fieldViolations);
         }
     }
+
+    public void validateSearchPeriod(String start, String end) {
+        List<FieldViolation> fieldViolations = new ArrayList<>();
+
+        if (start == null) {
+            fieldViolations.add(new FieldViolation("Search.start", "must not be null"));
+        }
+        if (end == null) {
+            fieldViolations.add(new FieldViolation("Search.end", "must not be null"));
+        }
+
+        if (!fieldViolations.isEmpty()) {
+            throw new FieldValidationException(fieldViolations);
+        }
+
+        LocalDateTime startDate = LocalDateTime.now();
+        LocalDateTime endDate = LocalDateTime.now();
+        try {
+            startDate = LocalDateTime.parse(start);
+        } catch (DateTimeParseException exception) {
+            fieldViolations.add(new FieldViolation("Search.start", "must be of pattern yyyy-MM-ddThh:mm:ss"));
+        }
+        try {
+            endDate = LocalDateTime.parse(end);
+        } catch (DateTimeParseException exception) {
+            fieldViolations.add(new FieldViolation("Search.end", "must be of pattern yyyy-MM-ddThh:mm:ss"));
+        }
+
+        if (!fieldViolations.isEmpty()) {
+            throw new FieldValidationException(fieldViolations);
+        }
+
+        if (!endDate.isAfter(startDate)) {
+            throw new FieldValidationException(List.of(new FieldViolation("Search.end", "must be after start")));
+        }
+    }
+
+    public void validateAvailabilityPeriod(String from, String to) {
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime end = LocalDateTime.now();
+        List<FieldViolation> fieldViolations = new ArrayList<>();
+
+        try {
+            start = LocalDateTime.parse(from);
+        } catch (DateTimeParseException exception) {
+            fieldViolations.add(new FieldViolation("Availability.from", "must be of pattern yyyy-MM-ddThh:mm:ss"));
+        }
+        try {
+            end = LocalDateTime.parse(to);
+        } catch (DateTimeParseException exception) {
+            fieldViolations.add(new FieldViolation("Availability.to", "must be of pattern yyyy-MM-ddThh:mm:ss"));
+        }
+
+        if (!fieldViolations.isEmpty()) {
+            throw new FieldValidationException(fieldViolations);
+        }
+
+        if (!end.isAfter(start)) {
+            throw new FieldValidationException(List.of(new FieldViolation("Availability.to", "must be after from")));
+        }
+    }
 }
\ No newline at end of file
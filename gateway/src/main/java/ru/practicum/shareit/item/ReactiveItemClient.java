@@ -0,0 +1,112 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    @Autowired
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                              ClientHttpConnector shareItServerConnector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareItServerConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> getAllItems() {
+        return get("/all");
+    }
+
+    public Mono<ResponseEntity<Object>> getItem(Long itemId, long userId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllOwnersItems(long ownerId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("?from={from}&size={size}&cursor={cursor}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> postItem(ItemDto itemDto, long ownerId) {
+        return post("", ownerId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Object>> patchItem(ItemDto itemDto, Long itemId, long ownerId) {
+        return patch("/" + itemId, ownerId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteItem(Long itemId, long ownerId) {
+        return delete("/" + itemId, ownerId);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteAllItems() {
+        return delete("");
+    }
+
+    public Mono<ResponseEntity<Object>> searchItems(String query, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "text", query,
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> searchItems(String query, String start, String end, Integer from, Integer size,
+                                                    String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "text", query,
+                "start", start,
+                "end", end,
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("/search?text={text}&start={start}&end={end}&from={from}&size={size}&cursor={cursor}",
+                parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> suggestItemNames(String prefix, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix,
+                "size", size
+        );
+        return get("/suggest?prefix={prefix}&size={size}", parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemAvailability(Long itemId, long userId, String from, String to,
+                                                            Boolean includeWaiting) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to,
+                "includeWaiting", includeWaiting
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}&includeWaiting={includeWaiting}",
+                userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> postComment(CommentDto commentDto, Long itemId, long userId) {
+        return post("/" + itemId + "/comment", userId, commentDto);
+    }
+}
\ No newline at end of file
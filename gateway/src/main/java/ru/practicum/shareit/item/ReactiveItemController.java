@@ -0,0 +1,155 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static ru.practicum.shareit.item.ItemValidator.*;
+import static ru.practicum.shareit.item.CommentValidator.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Object>> getAllItems() {
+        log.info("Request on getting all items has been received");
+        return itemClient.getAllItems();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getItemById(@PathVariable Long id, @RequestHeader(HEADER_USER_ID) Long userId) {
+        log.info("Request on getting item with id = {} by user with id = {} has been received", id, userId);
+        return itemClient.getItem(id, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllItemsByOwnerId(@RequestHeader(HEADER_USER_ID) Long ownerId,
+                                                    @RequestParam(required = false) @PositiveOrZero Integer from,
+                                                    @RequestParam(required = false) @Positive Integer size,
+                                                    @RequestParam(required = false) String cursor) {
+        log.info("Request on getting all items of user with id = {} " +
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                ownerId, from, size, cursor);
+        return itemClient.getAllOwnersItems(ownerId, from == null ? 0 : from, size == null ? 10 : size, cursor);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<Object>> createItem(@RequestBody ItemDto itemDto,
+                                                   @RequestHeader(HEADER_USER_ID) Long ownerId) {
+        log.info("Request on posting item with\nname = {}\ndescription = {}\navailable = {}\nrequestId = {}" +
+                "\nby user with id = {} has been received",
+                itemDto.getName(),
+                itemDto.getDescription(),
+                itemDto.getAvailable(),
+                itemDto.getRequestId(),
+                ownerId);
+        validateItemForCreation(itemDto);
+        return itemClient.postItem(itemDto, ownerId);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Object>> updateItemById(@RequestBody ItemDto itemDto,
+                                        @PathVariable Long id,
+                                        @RequestHeader(HEADER_USER_ID) Long ownerId) {
+        log.info("Request on patching item with\nid = {}\nname = {}\ndescription = {}\navailable = {}\nrequestId = {}" +
+                "\nby user with id = {} has been received",
+                id,
+                itemDto.getName(),
+                itemDto.getDescription(),
+                itemDto.getAvailable(),
+                itemDto.getRequestId(),
+                ownerId);
+        validateItemForUpdating(itemDto);
+        return itemClient.patchItem(itemDto, id, ownerId);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Object>> deleteItemById(@PathVariable Long id,
+                                                       @RequestHeader(HEADER_USER_ID) Long ownerId) {
+        log.info("Request on deleting item with id = {} by user with id = {} has been received", id, ownerId);
+        return itemClient.deleteItem(id, ownerId);
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<Object>> deleteAll() {
+        log.info("Request on deleting all items has been received");
+        return itemClient.deleteAllItems();
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Object>> searchItems(@RequestParam("text") String query,
+                                           @RequestParam(required = false) String start,
+                                           @RequestParam(required = false) String end,
+                                           @RequestParam(required = false) @PositiveOrZero Integer from,
+                                           @RequestParam(required = false) @Positive Integer size,
+                                           @RequestParam(required = false) String cursor) {
+        log.info("Request on getting items by searchQuery = \"{}\" free from {} till {} " +
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                query, start, end, from, size, cursor);
+        if (start == null && end == null) {
+            return itemClient.searchItems(query.toLowerCase(), from == null ? 0 : from, size == null ? 10 : size,
+                    cursor);
+        }
+        validateSearchPeriod(start, end);
+        return itemClient.searchItems(query.toLowerCase(), start, end, from == null ? 0 : from,
+                size == null ? 10 : size, cursor);
+    }
+
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<Object>> suggestItemNames(@RequestParam String prefix,
+                                                         @RequestParam(required = false) @Positive Integer size) {
+        log.info("Request on getting item name suggestions by prefix = \"{}\" " +
+                "with size = {} has been received", prefix, size);
+        return itemClient.suggestItemNames(prefix.toLowerCase(), size == null ? 10 : size);
+    }
+
+    @GetMapping("/{id}/availability")
+    public Mono<ResponseEntity<Object>> getItemAvailability(
+            @PathVariable Long id,
+            @RequestHeader(HEADER_USER_ID) Long userId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "false") Boolean includeWaiting) {
+        log.info("Request on getting availability of item with id = {} from {} till {} " +
+                "with includeWaiting = {} by user with id = {} has been received",
+                id, from, to, includeWaiting, userId);
+        validateAvailabilityPeriod(from, to);
+        return itemClient.getItemAvailability(id, userId, from, to, includeWaiting);
+    }
+
+    @PostMapping("/{id}/comment")
+    public Mono<ResponseEntity<Object>> createComment(@RequestBody CommentDto commentDto,
+                                          @PathVariable("id") Long itemId,
+                                          @RequestHeader(HEADER_USER_ID) Long authorId) {
+        log.info("Request on posting comment with text = {}" +
+                "\non item with id = {}\nfrom user with id = {} has been received",
+                commentDto.getText(),
+                itemId,
+                authorId);
+        validateCommentDto(commentDto);
+        commentDto.setCreated(LocalDateTime.now().format(formatter));
+        return itemClient.postComment(commentDto, itemId, authorId);
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +16,7 @@ import java.time.format.DateTimeFormatter;
 import static ru.practicum.shareit.request.ItemRequestValidator.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
 @Slf4j
@@ -34,10 +36,13 @@ public class ItemRequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> getAllItemRequestsByUserId(@RequestHeader(HEADER_USER_ID) Long userId,
                                                            @RequestParam(required = false) @PositiveOrZero Integer from,
-                                                           @RequestParam(required = false) @Positive Integer size) {
+                                                           @RequestParam(required = false) @Positive Integer size,
+                                                           @RequestParam(required = false) String cursor) {
         log.info("Request on getting all item requests by user with id = {} " +
-                "with page parameters from = {} and size = {} has been received", userId, from, size);
-        return itemRequestClient.getAllRequests(userId, from == null ? 0 : from, size == null ? 10 : size);
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                userId, from, size, cursor);
+        return itemRequestClient.getAllRequests(userId, from == null ? 0 : from, size == null ? 10 : size,
+                cursor);
     }
 
     @GetMapping("/{requestId}")
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    @Autowired
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                     ClientHttpConnector shareItServerConnector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareItServerConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> getOwnRequests(long creatorId) {
+        return get("", creatorId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllRequests(long userId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "cursor", cursor == null ? "" : cursor
+        );
+        return get("/all?from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getRequest(Long requestId, long userId) {
+        return get("/" + requestId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> postRequest(ItemRequestDto itemRequestDto, long creatorId) {
+        return post("", creatorId, itemRequestDto);
+    }
+}
\ No newline at end of file
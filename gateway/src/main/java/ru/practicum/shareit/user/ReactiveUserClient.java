@@ -0,0 +1,53 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    @Autowired
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                              ClientHttpConnector shareItServerConnector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareItServerConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> getAllUsers() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<Object>> getUser(Long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> postUser(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> patchUser(UserDto userDto, Long userId) {
+        return patch("/" + userId, userId, userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteUser(Long userId) {
+        return delete("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteAllUsers() {
+        return delete("");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BaseClientBenchmarkTest {
+    private static final int REQUESTS = 500;
+    private static final List<Integer> ITEM_COUNTS = List.of(100, 1_000, 10_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void passthroughAgainstParsedResponses() throws Exception {
+        for (Integer itemCount : ITEM_COUNTS) {
+            String payload = createPayload(itemCount);
+            RestTemplate rest = new RestTemplate();
+            MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+            server.expect(ExpectedCount.manyTimes(), requestTo("/items/all"))
+                    .andRespond(withSuccess(payload, MediaType.APPLICATION_JSON));
+            BaseClient client = new BaseClient(rest);
+
+            double parsedMicros = measure(() -> objectMapper.writeValueAsBytes(
+                    rest.exchange("/items/all", HttpMethod.GET, HttpEntity.EMPTY, Object.class).getBody()));
+            double passthroughMicros = measure(() -> (byte[]) client.get("/items/all").getBody());
+            log.info("Gateway response of {} items ({} bytes): parsed = {} us/request, passthrough = {} us/request",
+                    itemCount, payload.length(),
+                    String.format("%.1f", parsedMicros), String.format("%.1f", passthroughMicros));
+            assertEquals(payload.length(), ((byte[]) client.get("/items/all").getBody()).length);
+        }
+    }
+
+    private String createPayload(int itemCount) {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item").append(i)
+                    .append("\",\"description\":\"description of item ").append(i)
+                    .append("\",\"available\":true,\"requestId\":null")
+                    .append(",\"lastBooking\":{\"id\":").append(i).append(",\"bookerId\":").append(i % 100)
+                    .append("},\"nextBooking\":null,\"comments\":[{\"id\":").append(i)
+                    .append(",\"text\":\"comment\",\"authorName\":\"author\",\"created\":\"2030-01-01T00:00:00\"}]}");
+        }
+        return result.append(']').toString();
+    }
+
+    private double measure(Request request) throws Exception {
+        for (int i = 0; i < REQUESTS / 10; i++) {
+            request.send();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            request.send();
+        }
+        return (System.nanoTime() - start) / 1000.0 / REQUESTS;
+    }
+
+    private interface Request {
+        byte[] send() throws Exception;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class BaseClientTest {
+    private final RestTemplate rest = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+    private final BaseClient client = new BaseClient(rest);
+
+    @AfterEach
+    void resetRequestAttributes() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldPassServerResponseBytesAndHeadersThrough() {
+        String body = "[{\"id\":1,\"name\":\"Дрель\",\"price\":1.50}]";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "MQ");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        server.expect(requestTo("/items?from=0"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON).headers(headers));
+
+        ResponseEntity<Object> response = client.get("/items?from={from}", 1L, Map.of("from", 0));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("MQ", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        server.verify();
+    }
+
+    @Test
+    void shouldPassServerErrorStatusAndBodyThrough() {
+        String body = "{\"error\":\"Item with id 1 not found\"}";
+        server.expect(requestTo("/items/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(body));
+
+        ResponseEntity<Object> response = client.get("/items/1", 1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void shouldReturnEmptyResponseWhenServerRespondsWithoutBody() {
+        server.expect(requestTo("/users/1"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess());
+
+        ResponseEntity<Object> response = client.delete("/users/1");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void shouldForwardConditionalHeadersAndPassNotModifiedThrough() {
+        MockHttpServletRequest gatewayRequest = new MockHttpServletRequest("GET", "/items/1");
+        gatewayRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"3-abc\"");
+        gatewayRequest.addHeader("X-Forwarded-For", "10.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(gatewayRequest));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"3-abc\"");
+        server.expect(requestTo("/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"3-abc\""))
+                .andExpect(headerDoesNotExist("X-Forwarded-For"))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(headers));
+
+        ResponseEntity<Object> response = client.get("/items/1", 1L);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3-abc\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        server.verify();
+    }
+
+    @Test
+    void shouldForwardIfMatchWhenPatch() {
+        MockHttpServletRequest gatewayRequest = new MockHttpServletRequest("PATCH", "/users/1");
+        gatewayRequest.addHeader(HttpHeaders.IF_MATCH, "\"2\"");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(gatewayRequest));
+        server.expect(requestTo("/users/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andExpect(header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andRespond(withStatus(HttpStatus.PRECONDITION_FAILED).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"User with id = 1 has been modified\"}"));
+
+        ResponseEntity<Object> response = client.patch("/users/1", 1L, "{\"name\":\"name\"}");
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        server.verify();
+    }
+
+    @Test
+    void shouldInvalidateCoalescedReadsOfResourceAfterWrite() {
+        RequestCoalescer requestCoalescer = mock(RequestCoalescer.class);
+        BaseClient coalescingClient = new BaseClient(rest, requestCoalescer);
+        server.expect(requestTo("/items/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+
+        coalescingClient.patch("/items/1", 1L, "{\"name\":\"name\"}");
+
+        verify(requestCoalescer).invalidate(URI.create("/items/1"));
+        verify(requestCoalescer, never()).execute(any(), any(), any());
+        server.verify();
+    }
+}
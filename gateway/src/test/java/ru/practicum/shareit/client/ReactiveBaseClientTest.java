@@ -0,0 +1,141 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveBaseClientTest {
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    private ReactiveBaseClient createClient(ClientResponse response) {
+        return new ReactiveBaseClient(WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(response);
+                })
+                .build());
+    }
+
+    @Test
+    void shouldPassServerResponseBytesAndHeadersThrough() {
+        String body = "[{\"id\":1,\"name\":\"Дрель\",\"price\":1.50}]";
+        ReactiveBaseClient client = createClient(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Next-Cursor", "MQ")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body(body)
+                .build());
+
+        ResponseEntity<Object> response = client.get("/items?from={from}", 1L, Map.of("from", 0)).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("MQ", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertEquals(1, requests.size());
+        assertEquals(HttpMethod.GET, requests.get(0).method());
+        assertEquals("/items?from=0", requests.get(0).url().toString());
+        assertEquals("1", requests.get(0).headers().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void shouldPassServerErrorStatusAndBodyThrough() {
+        String body = "{\"error\":\"Item with id 1 not found\"}";
+        ReactiveBaseClient client = createClient(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+
+        ResponseEntity<Object> response = client.get("/items/1", 1L).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void shouldReturnEmptyResponseWhenServerRespondsWithoutBody() {
+        ReactiveBaseClient client = createClient(ClientResponse.create(HttpStatus.OK).build());
+
+        ResponseEntity<Object> response = client.delete("/users/1").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(HttpMethod.DELETE, requests.get(0).method());
+        assertFalse(requests.get(0).headers().containsKey("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void shouldForwardConditionalHeadersAndPassNotModifiedThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/items/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3-abc\"")
+                .header("X-Forwarded-For", "10.0.0.1"));
+        ReactiveBaseClient client = createClient(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, "\"3-abc\"")
+                .build());
+
+        ResponseEntity<Object> response = client.get("/items/1", 1L)
+                .contextWrite(Context.of(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE, exchange))
+                .block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3-abc\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        assertEquals("\"3-abc\"", requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertFalse(requests.get(0).headers().containsKey("X-Forwarded-For"));
+    }
+
+    @Test
+    void shouldForwardIfMatchWhenPut() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.put("/users/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\""));
+        String body = "{\"error\":\"User with id = 1 has been modified\"}";
+        ReactiveBaseClient client = createClient(ClientResponse.create(HttpStatus.PRECONDITION_FAILED)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+
+        ResponseEntity<Object> response = client.put("/users/1", 1L, "{\"name\":\"name\"}")
+                .contextWrite(Context.of(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE, exchange))
+                .block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(HttpMethod.PUT, requests.get(0).method());
+        assertEquals("\"2\"", requests.get(0).headers().getFirst(HttpHeaders.IF_MATCH));
+    }
+
+    @Test
+    void shouldNotForwardConditionalHeadersWithoutGatewayRequest() {
+        ReactiveBaseClient client = createClient(ClientResponse.create(HttpStatus.OK).build());
+
+        client.get("/items/1", 1L).block();
+
+        assertFalse(requests.get(0).headers().containsKey(HttpHeaders.IF_NONE_MATCH));
+        assertFalse(requests.get(0).headers().containsKey(HttpHeaders.IF_MATCH));
+    }
+}
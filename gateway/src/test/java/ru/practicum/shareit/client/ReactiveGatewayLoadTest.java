@@ -0,0 +1,127 @@
+package ru.practicum.shareit.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReactiveGatewayLoadTest {
+    private static final int CLIENTS = 2_000;
+    private static final Duration SERVER_DELAY = Duration.ofMillis(500);
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    private static final LoopResources loops = LoopResources.create("load-test");
+    private static final DisposableServer server = HttpServer.create()
+            .runOn(loops)
+            .host("localhost")
+            .port(0)
+            .route(routes -> routes.route(request -> true, (request, response) -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return Mono.delay(SERVER_DELAY)
+                        .then(response.header("Content-Type", "application/json")
+                                .sendString(Mono.just("[]"))
+                                .then())
+                        .doFinally(signal -> inFlight.decrementAndGet());
+            }))
+            .bindNow();
+
+    @AfterAll
+    static void stopServer() {
+        server.disposeNow();
+        loops.disposeLater().block();
+    }
+
+    @Test
+    void servletAgainstReactiveGateway() {
+        runLoad(WebApplicationType.SERVLET);
+        runLoad(WebApplicationType.REACTIVE);
+    }
+
+    private void runLoad(WebApplicationType type) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItGateway.class)
+                .web(type)
+                .run("--server.port=0",
+                        "--logging.level.org.springframework.web.client.RestTemplate=WARN",
+                        "--shareit-server.url=http://localhost:" + server.port(),
+                        "--shareit-server.pool.max-total=" + CLIENTS,
+                        "--shareit-server.pool.max-per-route=" + CLIENTS,
+                        "--shareit-server.pool.lease-timeout=60000",
+                        "--shareit-server.read-timeout=60000")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                    .maxConnections(CLIENTS)
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            HttpClient client = HttpClient.create(provider)
+                    .runOn(loops)
+                    .baseUrl("http://localhost:" + port)
+                    .responseTimeout(Duration.ofSeconds(60));
+            try {
+                sendRequests(client, 100);
+                maxInFlight.set(0);
+                System.gc();
+                long heapBefore = usedHeap();
+                int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+                AtomicInteger peakThreads = new AtomicInteger(threadsBefore);
+                AtomicInteger peakHeapKb = new AtomicInteger();
+
+                long start = System.nanoTime();
+                Long succeeded = Flux.range(0, CLIENTS)
+                        .flatMap(i -> client.get()
+                                .uri("/items/all")
+                                .responseSingle((response, body) -> body.asByteArray()
+                                        .defaultIfEmpty(new byte[0])
+                                        .map(bytes -> response.status().code()))
+                                .doOnNext(status -> {
+                                    peakThreads.accumulateAndGet(
+                                            ManagementFactory.getThreadMXBean().getThreadCount(), Math::max);
+                                    peakHeapKb.accumulateAndGet((int) ((usedHeap() - heapBefore) / 1024), Math::max);
+                                }), CLIENTS)
+                        .filter(status -> status == 200)
+                        .count()
+                        .block(Duration.ofMinutes(5));
+                double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                log.info("{} gateway, {} concurrent clients, server delay {} ms: {} succeeded in {} s, " +
+                                "max requests in flight at server = {}, threads = {} -> {}, heap per connection = {} KB",
+                        type, CLIENTS, SERVER_DELAY.toMillis(), succeeded, String.format("%.2f", elapsedSeconds),
+                        maxInFlight.get(), threadsBefore, peakThreads.get(),
+                        String.format("%.1f", peakHeapKb.get() / (double) CLIENTS));
+                assertEquals(CLIENTS, succeeded);
+            } finally {
+                provider.disposeLater().block();
+            }
+        }
+    }
+
+    private void sendRequests(HttpClient client, int count) {
+        Flux.range(0, count)
+                .flatMap(i -> client.get().uri("/items/all").responseContent().aggregate().asString())
+                .blockLast(Duration.ofMinutes(1));
+    }
+
+    private long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
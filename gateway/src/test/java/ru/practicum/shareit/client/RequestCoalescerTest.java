@@ -0,0 +1,235 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    private static final int CALLERS = 8;
+    private static final URI SEARCH_URI = URI.create("http://localhost:9090/items/search?text=drill");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(List.of("/items/search", "/items/*"),
+            meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private HttpHeaders headers(long userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        return headers;
+    }
+
+    private List<Future<ResponseEntity<Object>>> sendConcurrently(URI uri, HttpHeaders headers, CountDownLatch release,
+                                                                  ResponseEntity<Object> response) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        List<Future<ResponseEntity<Object>>> results = new ArrayList<>();
+        results.add(executor.submit(() -> coalescer.execute(uri, headers, () -> {
+            upstreamCalls.incrementAndGet();
+            started.countDown();
+            awaitRelease(release);
+            if (response == null) {
+                throw new ResourceAccessException("Read timed out");
+            }
+            return response;
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute(uri, headers, () -> {
+                upstreamCalls.incrementAndGet();
+                return response;
+            })));
+        }
+        return results;
+    }
+
+    private void awaitRelease(CountDownLatch release) {
+        while (getCount("collapsed") < CALLERS - 1) {
+            Thread.onSpinWait();
+        }
+        await(release);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private double getCount(String outcome) {
+        return meterRegistry.get(RequestCoalescer.METRIC_NAME)
+                .tag("route", "/items/search")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    @Test
+    void shouldShareOneUpstreamCallBetweenConcurrentIdenticalRequests() throws Exception {
+        ResponseEntity<Object> response = ResponseEntity.ok("[]".getBytes());
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<ResponseEntity<Object>>> results = sendConcurrently(SEARCH_URI, headers(1), release, response);
+        release.countDown();
+
+        for (Future<ResponseEntity<Object>> result : results) {
+            assertSame(response, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, getCount("forwarded"));
+        assertEquals(CALLERS - 1, getCount("collapsed"));
+    }
+
+    @Test
+    void shouldPassUpstreamErrorToAllCollapsedRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<ResponseEntity<Object>>> results = sendConcurrently(SEARCH_URI, headers(1), release, null);
+        release.countDown();
+
+        for (Future<ResponseEntity<Object>> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals(ResourceAccessException.class, exception.getCause().getClass());
+        }
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldStartNewUpstreamCallAfterSharedCallIsFinished() {
+        coalescer.execute(SEARCH_URI, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+        coalescer.execute(SEARCH_URI, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2, getCount("forwarded"));
+        assertEquals(0, getCount("collapsed"));
+    }
+
+    @Test
+    void shouldNotCollapseRequestsOfDifferentUsers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<ResponseEntity<Object>> first = executor.submit(() -> coalescer.execute(SEARCH_URI, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return ResponseEntity.ok().build();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        coalescer.execute(SEARCH_URI, headers(2), () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, getCount("collapsed"));
+    }
+
+    @Test
+    void shouldNotJoinCallStartedBeforeWriteToSameResource() throws Exception {
+        URI itemUri = URI.create("http://localhost:9090/items/1");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<ResponseEntity<Object>> staleRead = executor.submit(() -> coalescer.execute(itemUri, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return ResponseEntity.ok("stale".getBytes());
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        coalescer.invalidate(URI.create("http://localhost:9090/items/1"));
+        ResponseEntity<Object> freshResponse = ResponseEntity.ok("fresh".getBytes());
+        ResponseEntity<Object> freshRead = coalescer.execute(itemUri, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            return freshResponse;
+        });
+        release.countDown();
+        staleRead.get(5, TimeUnit.SECONDS);
+
+        assertSame(freshResponse, freshRead);
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldDropInFlightSearchWhenItemIsWrittenButKeepOtherResources() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<ResponseEntity<Object>> search = executor.submit(() -> coalescer.execute(SEARCH_URI, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return ResponseEntity.ok().build();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        coalescer.invalidate(URI.create("http://localhost:9090/users/1"));
+        Future<ResponseEntity<Object>> collapsed = executor.submit(() -> coalescer.execute(SEARCH_URI, headers(1),
+                () -> {
+                    upstreamCalls.incrementAndGet();
+                    return ResponseEntity.ok().build();
+                }));
+        while (getCount("collapsed") < 1) {
+            Thread.onSpinWait();
+        }
+
+        coalescer.invalidate(URI.create("http://localhost:9090/items/7"));
+        coalescer.execute(SEARCH_URI, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+        release.countDown();
+        search.get(5, TimeUnit.SECONDS);
+        collapsed.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2, getCount("forwarded"));
+        assertEquals(1, getCount("collapsed"));
+    }
+
+    @Test
+    void shouldNotCollapseRequestsOutsideOfAllowedRoutes() {
+        URI uri = URI.create("http://localhost:9090/bookings/1");
+
+        coalescer.execute(uri, headers(1), () -> {
+            upstreamCalls.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+
+        assertEquals(1, upstreamCalls.get());
+        assertTrue(meterRegistry.find(RequestCoalescer.METRIC_NAME).tag("route", "/bookings/*").counters().isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.request.ItemRequestClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ShareItServerTransportConfigTest {
+    private static final HttpServer server = startServer();
+
+    private final ItemClient itemClient;
+    private final BookingClient bookingClient;
+    private final UserClient userClient;
+    private final ItemRequestClient itemRequestClient;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    ShareItServerTransportConfigTest(ItemClient itemClient,
+                                     BookingClient bookingClient,
+                                     UserClient userClient,
+                                     ItemRequestClient itemRequestClient,
+                                     MeterRegistry meterRegistry) {
+        this.itemClient = itemClient;
+        this.bookingClient = bookingClient;
+        this.userClient = userClient;
+        this.itemRequestClient = itemRequestClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @DynamicPropertySource
+    static void shareItServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer result = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            result.createContext("/", exchange -> {
+                byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+                exchange.getRequestBody().readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            });
+            result.start();
+            return result;
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    double getPoolGauge(String name, String state) {
+        return meterRegistry.get("httpcomponents.httpclient.pool." + name)
+                .tag("httpclient", ShareItServerTransportConfig.POOL_NAME)
+                .tag("state", state)
+                .gauge()
+                .value();
+    }
+
+    @Test
+    void shouldShareOneKeepAliveConnectionPoolBetweenClients() {
+        long leases = meterRegistry.get("httpcomponents.httpclient.pool.lease").timer().count();
+
+        assertEquals(HttpStatus.OK, itemClient.getAllItems().getStatusCode());
+        assertEquals(HttpStatus.OK, bookingClient.getBooking(1L, 1L).getStatusCode());
+        assertEquals(HttpStatus.OK, userClient.getAllUsers().getStatusCode());
+        assertEquals(HttpStatus.OK, itemRequestClient.getOwnRequests(1L).getStatusCode());
+
+        assertEquals(leases + 4, meterRegistry.get("httpcomponents.httpclient.pool.lease").timer().count());
+        assertEquals(1, getPoolGauge("total.connections", "available"));
+        assertEquals(0, getPoolGauge("total.connections", "leased"));
+        assertEquals(0, meterRegistry.get("httpcomponents.httpclient.pool.total.pending").gauge().value());
+        assertEquals(200, meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+        assertEquals(100, meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").gauge().value());
+    }
+}
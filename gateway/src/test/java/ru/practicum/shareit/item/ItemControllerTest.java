@@ -6,10 +6,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -54,4 +60,64 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].fieldName", is("searchItems.size")))
                 .andExpect(jsonPath("$[0].message", is("must be greater than 0")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnBadRequestAndErrorWhenSearchItemsWithWrongPeriod() throws Exception {
+        mvc.perform(get("/items/search?text={text}&start={start}", "text", "2030-01-01T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(400))
+                .andExpect(jsonPath("$[0].fieldName", is("Search.end")))
+                .andExpect(jsonPath("$[0].message", is("must not be null")));
+
+        mvc.perform(get("/items/search?text={text}&start={start}&end={end}", "text",
+                        "2030-01-02T00:00:00", "2030-01-01T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(400))
+                .andExpect(jsonPath("$[0].fieldName", is("Search.end")))
+                .andExpect(jsonPath("$[0].message", is("must be after start")));
+    }
+
+    @Test
+    void shouldReturnBadRequestAndErrorWhenSuggestItemNamesWithWrongSize() throws Exception {
+        mvc.perform(get("/items/suggest?prefix={prefix}&size={size}", "dr", 0)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(400))
+                .andExpect(jsonPath("$[0].fieldName", is("suggestItemNames.size")))
+                .andExpect(jsonPath("$[0].message", is("must be greater than 0")));
+    }
+
+    @Test
+    void shouldReturnBadRequestAndErrorWhenGetItemAvailabilityWithWrongPeriod() throws Exception {
+        mvc.perform(get("/items/{id}/availability?from={from}&to={to}", 42, "2030-01-01", "2030-02-01T00:00:00")
+                        .header(HEADER_USER_ID, 23)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(400))
+                .andExpect(jsonPath("$[0].fieldName", is("Availability.from")))
+                .andExpect(jsonPath("$[0].message", is("must be of pattern yyyy-MM-ddThh:mm:ss")));
+
+        mvc.perform(get("/items/{id}/availability?from={from}&to={to}", 42,
+                        "2030-02-01T00:00:00", "2030-01-01T00:00:00")
+                        .header(HEADER_USER_ID, 23)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(400))
+                .andExpect(jsonPath("$[0].fieldName", is("Availability.to")))
+                .andExpect(jsonPath("$[0].message", is("must be after from")));
+    }
+
+    @Test
+    void shouldWriteServerResponseBytesUnchanged() throws Exception {
+        byte[] body = "[{\"id\":1,\"name\":\"Дрель\",\"available\":true}]".getBytes(StandardCharsets.UTF_8);
+        when(itemClient.getAllItems()).thenReturn(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Next-Cursor", "MQ")
+                .body(body));
+
+        mvc.perform(get("/items/all")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "MQ"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(body))
+                .andExpect(jsonPath("$[0].name", is("Дрель")));
+    }
+}
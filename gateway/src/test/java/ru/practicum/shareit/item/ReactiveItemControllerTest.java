@@ -0,0 +1,166 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveShareItServerTransportConfig;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@WebFluxTest(controllers = ReactiveItemController.class)
+@Import(ReactiveShareItServerTransportConfig.class)
+class ReactiveItemControllerTest {
+    @MockBean
+    private final ReactiveItemClient itemClient;
+
+    private final WebTestClient webClient;
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+
+    @Test
+    void shouldReturnBadRequestAndErrorWhenGetAllItemsByOwnerIdWithWrongParametersFromOrSize() {
+        webClient.get().uri("/items?from={from}&size={size}", -1, 10)
+                .header(HEADER_USER_ID, "23")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].fieldName").isEqualTo("getAllItemsByOwnerId.from")
+                .jsonPath("$[0].message").isEqualTo("must be greater than or equal to 0");
+
+        webClient.get().uri("/items?from={from}&size={size}", 0, 0)
+                .header(HEADER_USER_ID, "23")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].fieldName").isEqualTo("getAllItemsByOwnerId.size")
+                .jsonPath("$[0].message").isEqualTo("must be greater than 0");
+    }
+
+    @Test
+    void shouldReturnBadRequestAndErrorWhenSearchItemsWithWrongPeriod() {
+        webClient.get().uri("/items/search?text={text}&start={start}", "text", "2030-01-01T00:00:00")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].fieldName").isEqualTo("Search.end")
+                .jsonPath("$[0].message").isEqualTo("must not be null");
+    }
+
+    @Test
+    void shouldReturnBadRequestAndErrorsWhenCreateItemWithoutFields() {
+        webClient.post().uri("/items")
+                .header(HEADER_USER_ID, "23")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ItemDto(null, null, null, null))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$[0].fieldName").isEqualTo("Item.name")
+                .jsonPath("$[0].message").isEqualTo("must not be null")
+                .jsonPath("$[2].fieldName").isEqualTo("Item.available");
+    }
+
+    @Test
+    void shouldReturnBadRequestAndErrorWhenUserIdHeaderIsMissing() {
+        webClient.get().uri("/items/{id}", 42)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").exists();
+    }
+
+    @Test
+    void shouldWriteServerResponseBytesUnchanged() {
+        byte[] body = "[{\"id\":1,\"name\":\"Дрель\",\"available\":true}]".getBytes(StandardCharsets.UTF_8);
+        when(itemClient.getAllItems()).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Next-Cursor", "MQ")
+                .body(body)));
+
+        webClient.get().uri("/items/all")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "MQ")
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(byte[].class).isEqualTo(body);
+    }
+
+    Mono<ResponseEntity<Object>> respondWithForwardedHeader(String name, HttpStatus matchedStatus) {
+        return Mono.deferContextual(context -> Mono.just(context
+                .<ServerWebExchange>getOrEmpty(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE)
+                .map(exchange -> exchange.getRequest().getHeaders().getFirst(name))
+                .filter("\"3\""::equals)
+                .map(tag -> ResponseEntity.status(matchedStatus).eTag(tag).build())
+                .orElseGet(() -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag("\"3\"")
+                        .body("{\"id\":42}".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    @Test
+    void shouldReturnOkAndETagWhenGetItemByIdWithoutIfNoneMatch() {
+        when(itemClient.getItem(eq(42L), anyLong()))
+                .thenReturn(respondWithForwardedHeader(HttpHeaders.IF_NONE_MATCH, HttpStatus.NOT_MODIFIED));
+
+        webClient.get().uri("/items/{id}", 42)
+                .header(HEADER_USER_ID, "23")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(42);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenGetItemByIdWithMatchingIfNoneMatch() {
+        when(itemClient.getItem(eq(42L), anyLong()))
+                .thenReturn(respondWithForwardedHeader(HttpHeaders.IF_NONE_MATCH, HttpStatus.NOT_MODIFIED));
+
+        webClient.get().uri("/items/{id}", 42)
+                .header(HEADER_USER_ID, "23")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldForwardIfMatchWhenUpdateItemById() {
+        when(itemClient.patchItem(any(), eq(42L), anyLong()))
+                .thenReturn(respondWithForwardedHeader(HttpHeaders.IF_MATCH, HttpStatus.PRECONDITION_FAILED));
+
+        webClient.patch().uri("/items/{id}", 42)
+                .header(HEADER_USER_ID, "23")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ItemDto("name", null, null, null))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+}
@@ -7,7 +7,9 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.ReceivedBookingDto;
 import ru.practicum.shareit.booking.dto.SentBookingDto;
 import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.page.PageCursor;
 
+import javax.servlet.http.HttpServletResponse;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,12 +34,18 @@ public class BookingController {
             @RequestParam String state,
             @RequestHeader(HEADER_USER_ID) Long bookerId,
             @RequestParam Integer from,
-            @RequestParam Integer size
+            @RequestParam Integer size,
+            @RequestParam(required = false) String cursor,
+            HttpServletResponse response
     ) {
         log.info("Request on getting own bookings by state = \"{}\" by booker with id = {} " +
-                        "with page parameters from = {} and size = {} has been received",
-                state, bookerId, from, size);
-        return bookingService.getBookingsByStateAndBookerId(BookingState.valueOf(state), bookerId, from, size);
+                        "with page parameters from = {}, size = {} and cursor = {} has been received",
+                state, bookerId, from, size, cursor);
+        List<SentBookingDto> result = cursor == null || cursor.isBlank()
+                ? bookingService.getBookingsByStateAndBookerId(BookingState.valueOf(state), bookerId, from, size)
+                : bookingService.getBookingsByStateAndBookerIdAfter(BookingState.valueOf(state), bookerId, cursor, size);
+        setNextCursor(response, result, size);
+        return result;
     }
 
     @GetMapping("/owner")
@@ -45,12 +53,18 @@ public class BookingController {
             @RequestParam String state,
             @RequestHeader(HEADER_USER_ID) Long ownerId,
             @RequestParam Integer from,
-            @RequestParam Integer size
+            @RequestParam Integer size,
+            @RequestParam(required = false) String cursor,
+            HttpServletResponse response
     ) {
         log.info("Request on getting bookings on own items by state = \"{}\" by owner with id = {} " +
-                        "with page parameters from = {} and size = {} has been received",
-                state, ownerId, from, size);
-        return bookingService.getBookingsByStateAndOwnerId(BookingState.valueOf(state), ownerId, from, size);
+                        "with page parameters from = {}, size = {} and cursor = {} has been received",
+                state, ownerId, from, size, cursor);
+        List<SentBookingDto> result = cursor == null || cursor.isBlank()
+                ? bookingService.getBookingsByStateAndOwnerId(BookingState.valueOf(state), ownerId, from, size)
+                : bookingService.getBookingsByStateAndOwnerIdAfter(BookingState.valueOf(state), ownerId, cursor, size);
+        setNextCursor(response, result, size);
+        return result;
     }
 
     @PostMapping()
@@ -77,4 +91,12 @@ public class BookingController {
                                               @RequestParam Boolean approved) {
         return bookingService.updateBookingStatus(id, userId, approved);
     }
+
+    private void setNextCursor(HttpServletResponse response, List<SentBookingDto> result, Integer size) {
+        if (result.size() == size) {
+            SentBookingDto lastBooking = result.get(result.size() - 1);
+            response.setHeader(PageCursor.HEADER_NEXT_CURSOR,
+                    PageCursor.of(lastBooking.getStart(), lastBooking.getId()).encode());
+        }
+    }
 }
\ No newline at end of file
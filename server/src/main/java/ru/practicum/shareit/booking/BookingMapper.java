@@ -5,6 +5,7 @@ import ru.practicum.shareit.booking.dto.BookingInfo;
 import ru.practicum.shareit.booking.dto.SentBookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
@@ -35,6 +36,26 @@ public class BookingMapper {
         return bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
     }
 
+    public BookingInfo getLastBookingInfo(ItemBookingSummary summary) {
+        if (summary == null || summary.getLastBookingId() == null) {
+            return null;
+        }
+        return new BookingInfo(
+                summary.getLastBookingId(),
+                summary.getLastBookerId()
+        );
+    }
+
+    public BookingInfo getNextBookingInfo(ItemBookingSummary summary) {
+        if (summary == null || summary.getNextBookingId() == null) {
+            return null;
+        }
+        return new BookingInfo(
+                summary.getNextBookingId(),
+                summary.getNextBookerId()
+        );
+    }
+
     public BookingInfo getBookingInfo(Booking booking) {
         return new BookingInfo(
                 booking.getId(),
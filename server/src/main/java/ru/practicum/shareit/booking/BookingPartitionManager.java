@@ -0,0 +1,193 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.partitioning.enabled", havingValue = "true")
+@Slf4j
+public class BookingPartitionManager {
+    static final String ARCHIVE_PARTITION = "bookings_archive";
+    static final String ARCHIVE_DEFAULT_PARTITION = "bookings_archive_default";
+    static final String DEFAULT_PARTITION = "bookings_default";
+
+    private static final String COLUMNS = "BOOKING_ID, START_DATE, END_DATE, STATUS, BOOKER_ID, ITEM_ID, OWNER_ID";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'bookings_y'uuuu'm'MM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("''uuuu-MM-dd HH:mm:ss''");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private volatile LocalDateTime archiveHorizon;
+
+    public BookingPartitionManager(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${shareit.booking.partitioning.months-ahead:3}") int monthsAhead,
+                                   @Value("${shareit.booking.partitioning.archive-after-months:12}")
+                                   int archiveAfterMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @PostConstruct
+    public void partition() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT RELKIND = 'p' FROM PG_CLASS WHERE OID = 'bookings'::REGCLASS", Boolean.class);
+        if (!Boolean.TRUE.equals(partitioned)) {
+            transactionTemplate.executeWithoutResult(status -> convert(YearMonth.now()));
+            log.info("Bookings table has been converted to a table partitioned by start date");
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ARCHIVE_DEFAULT_PARTITION + " PARTITION OF " +
+                ARCHIVE_PARTITION + " DEFAULT");
+        maintain();
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking.partitioning.maintenance-delay:3600000}")
+    public synchronized void maintain() {
+        YearMonth now = YearMonth.now();
+        createPartitions(now);
+        archivePartitions(now);
+        TreeSet<YearMonth> months = getMonthlyPartitions();
+        archiveHorizon = months.isEmpty() ? null : getStart(months.first());
+    }
+
+    public LocalDateTime getArchiveHorizon() {
+        return archiveHorizon;
+    }
+
+    void createPartitions(YearMonth now) {
+        TreeSet<YearMonth> months = getMonthlyPartitions();
+        YearMonth month = months.isEmpty() || months.last().isAfter(now) ? now : months.last().plusMonths(1);
+        for (; !month.isAfter(now.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            if (!months.contains(month)) {
+                YearMonth newMonth = month;
+                transactionTemplate.executeWithoutResult(status -> createPartition(newMonth));
+                log.info("Bookings partition {} has been created", getPartitionName(newMonth));
+            }
+        }
+    }
+
+    void archivePartitions(YearMonth now) {
+        LocalDateTime settledBefore = now.minusMonths(archiveAfterMonths).atDay(1).atStartOfDay();
+        for (YearMonth month : getMonthlyPartitions()) {
+            if (getEnd(month).isAfter(settledBefore) || hasUnsettledBookings(month, settledBefore)) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> archivePartition(month));
+            log.info("Bookings partition {} has been moved to archive", getPartitionName(month));
+        }
+    }
+
+    static String getPartitionName(YearMonth month) {
+        return month.format(PARTITION_NAME_FORMAT);
+    }
+
+    private void convert(YearMonth now) {
+        jdbcTemplate.execute("LOCK TABLE BOOKINGS IN ACCESS EXCLUSIVE MODE");
+        List<String> indexes = jdbcTemplate.queryForList("SELECT INDEXDEF FROM PG_INDEXES " +
+                "WHERE SCHEMANAME = CURRENT_SCHEMA() AND TABLENAME = 'bookings' AND INDEXNAME NOT IN " +
+                "(SELECT CONNAME FROM PG_CONSTRAINT WHERE CONRELID = 'bookings'::REGCLASS)", String.class);
+        LocalDateTime firstStart = jdbcTemplate.queryForObject("SELECT MIN(START_DATE) FROM BOOKINGS",
+                LocalDateTime.class);
+        YearMonth firstMonth = firstStart == null || YearMonth.from(firstStart).isAfter(now) ?
+                now : YearMonth.from(firstStart);
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS RENAME TO BOOKINGS_UNPARTITIONED");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS BOOKINGS_ID_SEQ");
+        jdbcTemplate.execute("CREATE TABLE BOOKINGS (" +
+                "BOOKING_ID BIGINT NOT NULL DEFAULT NEXTVAL('BOOKINGS_ID_SEQ'), " +
+                "START_DATE TIMESTAMP NOT NULL, " +
+                "END_DATE TIMESTAMP NOT NULL, " +
+                "STATUS VARCHAR(8) NOT NULL, " +
+                "BOOKER_ID BIGINT NOT NULL, " +
+                "ITEM_ID BIGINT NOT NULL, " +
+                "OWNER_ID BIGINT NOT NULL, " +
+                "CONSTRAINT BOOKINGS_ID_START_DATE_PKEY PRIMARY KEY (BOOKING_ID, START_DATE), " +
+                "CONSTRAINT BOOKINGS_USERS FOREIGN KEY (BOOKER_ID) REFERENCES USERS(USER_ID) " +
+                "ON DELETE RESTRICT ON UPDATE RESTRICT, " +
+                "CONSTRAINT BOOKINGS_ITEMS FOREIGN KEY (ITEM_ID) REFERENCES ITEMS(ITEM_ID) " +
+                "ON DELETE RESTRICT ON UPDATE RESTRICT, " +
+                "CONSTRAINT BOOKINGS_OWNERS FOREIGN KEY (OWNER_ID) REFERENCES USERS(USER_ID) " +
+                "ON DELETE RESTRICT ON UPDATE RESTRICT" +
+                ") PARTITION BY RANGE (START_DATE)");
+        jdbcTemplate.execute("ALTER SEQUENCE BOOKINGS_ID_SEQ OWNED BY BOOKINGS.BOOKING_ID");
+        jdbcTemplate.execute("CREATE TABLE " + ARCHIVE_PARTITION + " PARTITION OF BOOKINGS " +
+                "FOR VALUES FROM (MINVALUE) TO (" + BOUND_FORMAT.format(getStart(firstMonth)) + ") " +
+                "PARTITION BY RANGE (START_DATE)");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF BOOKINGS DEFAULT");
+        for (YearMonth month = firstMonth; !month.isAfter(now.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+        jdbcTemplate.execute("INSERT INTO BOOKINGS (" + COLUMNS + ") SELECT " + COLUMNS +
+                " FROM BOOKINGS_UNPARTITIONED");
+        jdbcTemplate.execute("SELECT SETVAL('BOOKINGS_ID_SEQ', COALESCE(MAX(BOOKING_ID), 0) + 1, false) " +
+                "FROM BOOKINGS");
+        jdbcTemplate.execute("DROP TABLE BOOKINGS_UNPARTITIONED");
+        jdbcTemplate.execute("CREATE TRIGGER BOOKINGS_APPROVED_PERIODS AFTER INSERT OR UPDATE OR DELETE ON BOOKINGS " +
+                "FOR EACH ROW EXECUTE FUNCTION SYNC_APPROVED_BOOKING_PERIOD()");
+        indexes.forEach(jdbcTemplate::execute);
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = getPartitionName(month);
+        String start = BOUND_FORMAT.format(getStart(month));
+        String end = BOUND_FORMAT.format(getEnd(month));
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE BOOKINGS INCLUDING DEFAULTS INCLUDING CONSTRAINTS, " +
+                "CONSTRAINT " + name + "_range CHECK (START_DATE >= " + start + " AND START_DATE < " + end + "))");
+        jdbcTemplate.execute("WITH MOVED AS (DELETE FROM " + DEFAULT_PARTITION + " WHERE START_DATE >= " + start +
+                " AND START_DATE < " + end + " RETURNING " + COLUMNS + ") INSERT INTO " + name + " (" + COLUMNS +
+                ") SELECT " + COLUMNS + " FROM MOVED");
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS ATTACH PARTITION " + name +
+                " FOR VALUES FROM (" + start + ") TO (" + end + ")");
+        jdbcTemplate.execute("INSERT INTO APPROVED_BOOKING_PERIODS (BOOKING_ID, ITEM_ID, PERIOD) " +
+                "SELECT BOOKING_ID, ITEM_ID, TSRANGE(START_DATE, END_DATE, '[]') FROM " + name +
+                " WHERE STATUS = 'APPROVED'");
+    }
+
+    private void archivePartition(YearMonth month) {
+        String name = getPartitionName(month);
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS DETACH PARTITION " + ARCHIVE_PARTITION);
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS DETACH PARTITION " + name);
+        jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_PARTITION + " ATTACH PARTITION " + name + " FOR VALUES FROM (" +
+                BOUND_FORMAT.format(getStart(month)) + ") TO (" + BOUND_FORMAT.format(getEnd(month)) + ")");
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS ATTACH PARTITION " + ARCHIVE_PARTITION +
+                " FOR VALUES FROM (MINVALUE) TO (" + BOUND_FORMAT.format(getEnd(month)) + ")");
+    }
+
+    private boolean hasUnsettledBookings(YearMonth month, LocalDateTime settledBefore) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " +
+                getPartitionName(month) + " WHERE END_DATE >= ?)", Boolean.class, settledBefore));
+    }
+
+    private TreeSet<YearMonth> getMonthlyPartitions() {
+        return jdbcTemplate.queryForList("SELECT C.RELNAME FROM PG_INHERITS I JOIN PG_CLASS C ON C.OID = I.INHRELID " +
+                        "WHERE I.INHPARENT = 'bookings'::REGCLASS AND C.RELNAME LIKE 'bookings\\_y%'", String.class)
+                .stream()
+                .map(name -> YearMonth.parse(name, PARTITION_NAME_FORMAT))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static LocalDateTime getStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+
+    private static LocalDateTime getEnd(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay();
+    }
+}
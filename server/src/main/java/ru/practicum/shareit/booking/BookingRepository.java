@@ -1,22 +1,29 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingPeriod;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingInfo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long>, QuerydslPredicateExecutor<Booking> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, QuerydslPredicateExecutor<Booking>,
+        BookingRepositoryCustom {
     @Query("select b " +
             "from Booking as b " +
             "join fetch b.booker " +
             "join fetch b.item " +
             "where b.id = ?1 " +
-            "and (b.booker.id = ?2 or b.item.owner.id = ?2)")
+            "and (b.booker.id = ?2 or b.ownerId = ?2)")
     Optional<Booking> findByIdAndOwnerOrBookerId(Long id, Long userId);
 
     @Query("select b " +
@@ -36,4 +43,46 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, Queryds
     List<Booking> findAllByItemIdOrderByStart(Iterable<Long> ids);
 
     List<Booking> findAllByItemIdAndBookerId(Long itemId, Long bookerId);
+
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.item.id = ?1 " +
+            "and b.status = ?2 " +
+            "and b.end >= ?3 " +
+            "and b.start <= ?4 " +
+            "order by b.end")
+    List<Booking> findAllIntersectingBookings(Long itemId, BookingStatus status,
+                                              LocalDateTime start, LocalDateTime end, Pageable page);
+
+    @Query("select new ru.practicum.shareit.booking.model.ItemBookingInfo(b.item.id, b.id, b.booker.id, b.start) " +
+            "from Booking as b " +
+            "where b.item.id in ?1 " +
+            "and b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and b.start = (select max(lb.start) " +
+            "from Booking as lb " +
+            "where lb.item = b.item " +
+            "and lb.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and lb.start < ?2)")
+    List<ItemBookingInfo> findLastBookings(Collection<Long> itemIds, LocalDateTime now);
+
+    @Query("select new ru.practicum.shareit.booking.model.ItemBookingInfo(b.item.id, b.id, b.booker.id, b.start) " +
+            "from Booking as b " +
+            "where b.item.id in ?1 " +
+            "and b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and b.start = (select min(nb.start) " +
+            "from Booking as nb " +
+            "where nb.item = b.item " +
+            "and nb.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and nb.start > ?2)")
+    List<ItemBookingInfo> findNextBookings(Collection<Long> itemIds, LocalDateTime now);
+
+    @Query("select new ru.practicum.shareit.booking.model.BookingPeriod(b.start, b.end) " +
+            "from Booking as b " +
+            "where b.item.id = ?1 " +
+            "and b.status in ?2 " +
+            "and b.end >= ?3 " +
+            "and b.start <= ?4 " +
+            "order by b.start")
+    List<BookingPeriod> findAllIntersectingBookingPeriods(Long itemId, Collection<BookingStatus> statuses,
+                                                          LocalDateTime start, LocalDateTime end);
 }
\ No newline at end of file
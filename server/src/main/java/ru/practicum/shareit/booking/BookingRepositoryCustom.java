@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking;
+
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.model.Booking;
+
+public interface BookingRepositoryCustom {
+    Slice<Booking> findSlice(Predicate predicate, Pageable page);
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.booking;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.PathBuilderFactory;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.QBooking;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final Querydsl querydsl;
+    private final ObjectProvider<BookingPartitionManager> bookingPartitionManager;
+
+    public BookingRepositoryCustomImpl(EntityManager entityManager,
+                                       ObjectProvider<BookingPartitionManager> bookingPartitionManager) {
+        querydsl = new Querydsl(entityManager, new PathBuilderFactory().create(Booking.class));
+        this.bookingPartitionManager = bookingPartitionManager;
+    }
+
+    @Override
+    public Slice<Booking> findSlice(Predicate predicate, Pageable page) {
+        long limit = page.getPageSize() + 1L;
+        LocalDateTime archiveHorizon = getArchiveHorizon(page.getSort());
+        if (archiveHorizon == null) {
+            return toSlice(fetch(predicate, page, page.getOffset(), limit), page);
+        }
+        Predicate byRecent = QBooking.booking.start.goe(archiveHorizon).and(predicate);
+        List<Booking> result = new ArrayList<>(fetch(byRecent, page, page.getOffset(), limit));
+        if (result.size() < limit) {
+            long archiveOffset = result.isEmpty() && page.getOffset() > 0 ?
+                    Math.max(0, page.getOffset() - count(byRecent)) : 0;
+            result.addAll(fetch(QBooking.booking.start.lt(archiveHorizon).and(predicate), page, archiveOffset,
+                    limit - result.size()));
+        }
+        return toSlice(result, page);
+    }
+
+    private LocalDateTime getArchiveHorizon(Sort sort) {
+        BookingPartitionManager manager = bookingPartitionManager.getIfAvailable();
+        Sort.Order firstOrder = sort.stream().findFirst().orElse(null);
+        if (manager == null || firstOrder == null || !firstOrder.getProperty().equals("start") ||
+                firstOrder.isAscending()) {
+            return null;
+        }
+        return manager.getArchiveHorizon();
+    }
+
+    private List<Booking> fetch(Predicate predicate, Pageable page, long offset, long limit) {
+        JPQLQuery<Booking> query = querydsl.applySorting(page.getSort(), querydsl.createQuery(QBooking.booking)
+                .select(QBooking.booking)
+                .where(predicate));
+        return query
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    private long count(Predicate predicate) {
+        Long count = querydsl.createQuery(QBooking.booking)
+                .select(QBooking.booking.count())
+                .where(predicate)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private Slice<Booking> toSlice(List<Booking> result, Pageable page) {
+        boolean hasNext = result.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? result.subList(0, page.getPageSize()) : result, page, hasNext);
+    }
+}
@@ -13,10 +13,18 @@ public interface BookingService {
             BookingState bookingState, Long bookerId, Integer from, Integer size
     );
 
+    List<SentBookingDto> getBookingsByStateAndBookerIdAfter(
+            BookingState bookingState, Long bookerId, String cursor, Integer size
+    );
+
     List<SentBookingDto> getBookingsByStateAndOwnerId(
             BookingState bookingState, Long ownerId, Integer from, Integer size
     );
 
+    List<SentBookingDto> getBookingsByStateAndOwnerIdAfter(
+            BookingState bookingState, Long ownerId, String cursor, Integer size
+    );
+
     SentBookingDto createBooking(Long itemId, Long bookerId, List<LocalDateTime> dates);
 
     SentBookingDto updateBookingStatus(Long id, Long userId, Boolean approved);
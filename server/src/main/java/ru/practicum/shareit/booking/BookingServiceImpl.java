@@ -4,6 +4,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import ru.practicum.shareit.exception.NotAvailableItemException;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.page.PageCursor;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
@@ -37,6 +39,10 @@ public class BookingServiceImpl implements BookingService {
     private final ItemRepository itemRepository;
     @Qualifier("userRepositoryDbImpl")
     private final UserRepository userRepository;
+    private final ItemBookingLocks itemBookingLocks;
+    private final ItemBookingSummaryManager itemBookingSummaryManager;
+
+    private static final Sort BOOKINGS_SORT = Sort.by(Sort.Direction.DESC, "start", "id");
 
     @Override
     @Transactional(readOnly = true)
@@ -57,8 +63,22 @@ public class BookingServiceImpl implements BookingService {
         userRepository.checkForPresenceById(bookerId);
         BooleanExpression byBookerId = QBooking.booking.booker.id.eq(bookerId);
         BooleanExpression byBookerIdAndState = addBookingStateFilter(byBookerId, bookingState);
-        PageRequest page = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start"));
-        return toBookingDto(bookingRepository.findAll(byBookerIdAndState, page).getContent());
+        PageRequest page = PageRequest.of(from / size, size, BOOKINGS_SORT);
+        return toBookingDto(bookingRepository.findSlice(byBookerIdAndState, page).getContent());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SentBookingDto> getBookingsByStateAndBookerIdAfter(
+            BookingState bookingState, Long bookerId, String cursor, Integer size
+    ) {
+        userRepository.checkForPresenceById(bookerId);
+        BooleanExpression byBookerId = QBooking.booking.booker.id.eq(bookerId);
+        BooleanExpression byBookerIdAndState = addBookingStateFilter(byBookerId, bookingState);
+        BooleanExpression byBookerIdAndStateAfterCursor = addCursorFilter(byBookerIdAndState,
+                PageCursor.decodePosition(cursor));
+        PageRequest page = PageRequest.of(0, size, BOOKINGS_SORT);
+        return toBookingDto(bookingRepository.findSlice(byBookerIdAndStateAfterCursor, page).getContent());
     }
 
     @Override
@@ -67,10 +87,24 @@ public class BookingServiceImpl implements BookingService {
             BookingState bookingState, Long ownerId, Integer from, Integer size
     ) {
         userRepository.checkForPresenceById(ownerId);
-        BooleanExpression byOwnerId = QBooking.booking.item.owner.id.eq(ownerId);
+        BooleanExpression byOwnerId = QBooking.booking.ownerId.eq(ownerId);
+        BooleanExpression byOwnerIdAndState = addBookingStateFilter(byOwnerId, bookingState);
+        PageRequest page = PageRequest.of(from / size, size, BOOKINGS_SORT);
+        return toBookingDto(bookingRepository.findSlice(byOwnerIdAndState, page).getContent());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SentBookingDto> getBookingsByStateAndOwnerIdAfter(
+            BookingState bookingState, Long ownerId, String cursor, Integer size
+    ) {
+        userRepository.checkForPresenceById(ownerId);
+        BooleanExpression byOwnerId = QBooking.booking.ownerId.eq(ownerId);
         BooleanExpression byOwnerIdAndState = addBookingStateFilter(byOwnerId, bookingState);
-        PageRequest page = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start"));
-        return toBookingDto(bookingRepository.findAll(byOwnerIdAndState, page).getContent());
+        BooleanExpression byOwnerIdAndStateAfterCursor = addCursorFilter(byOwnerIdAndState,
+                PageCursor.decodePosition(cursor));
+        PageRequest page = PageRequest.of(0, size, BOOKINGS_SORT);
+        return toBookingDto(bookingRepository.findSlice(byOwnerIdAndStateAfterCursor, page).getContent());
     }
 
     @Override
@@ -86,26 +120,15 @@ public class BookingServiceImpl implements BookingService {
         if (!item.getAvailable()) {
             throw new NotAvailableItemException("Can not book not available item");
         }
-        List<Booking> bookings = bookingRepository.findAllByItemIdOrderByStart(itemId);
-        Optional<Booking> optionalIntersectingBooking = bookings.stream()
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED))
-                .filter(booking ->
-                        !(booking.getEnd().isBefore(dates.get(0)) || dates.get(1).isBefore(booking.getStart())))
-                .findFirst();
-        if (optionalIntersectingBooking.isPresent()) {
-            throw new BookingDatesIntersectWithAlreadyExistingBookingException(
-                    String.format("Item with id = %s is already booked from %s, till %s",
-                            itemId,
-                            optionalIntersectingBooking.get().getStart(),
-                            optionalIntersectingBooking.get().getEnd())
-            );
-        }
+        itemBookingLocks.lockUntilTransactionCompletion(itemId);
+        checkForIntersectingBookings(itemId, dates.get(0), dates.get(1));
         Booking result = bookingRepository.save(toBooking(
                 dates.get(0),
                 dates.get(1),
                 BookingStatus.WAITING,
                 booker,
                 item));
+        itemBookingSummaryManager.addBooking(result);
         log.info("Booking with id = {} has been created", result.getId());
         return toBookingDto(result);
     }
@@ -121,14 +144,28 @@ public class BookingServiceImpl implements BookingService {
         if (booking.get().getBooker().getId().equals(userId)) {
             throw new ObjectNotFoundException("Can not update status of own booking");
         }
-        if (!booking.get().getItem().getOwner().getId().equals(userId)) {
+        if (!booking.get().getOwnerId().equals(userId)) {
             throw new CanNotUpdateBookingStatusException("Can not update booking status if user is not item owner");
         }
         if (booking.get().getStatus() == BookingStatus.APPROVED) {
             throw new CanNotUpdateBookingStatusException("Can not update status of already approved booking");
         }
         if (approved) {
+            Long itemId = booking.get().getItem().getId();
+            itemBookingLocks.lockUntilTransactionCompletion(itemId);
+            checkForIntersectingBookings(itemId, booking.get().getStart(), booking.get().getEnd());
             booking.get().setStatus(BookingStatus.APPROVED);
+            try {
+                bookingRepository.flush();
+            } catch (DataIntegrityViolationException exception) {
+                throw new BookingDatesIntersectWithAlreadyExistingBookingException(
+                        String.format("Item with id = %s is already booked for dates intersecting from %s, till %s",
+                                itemId,
+                                booking.get().getStart(),
+                                booking.get().getEnd())
+                );
+            }
+            itemBookingSummaryManager.approveBooking(booking.get());
         } else {
             booking.get().setStatus(BookingStatus.REJECTED);
         }
@@ -136,6 +173,24 @@ public class BookingServiceImpl implements BookingService {
         return toBookingDto(booking.get());
     }
 
+    private void checkForIntersectingBookings(Long itemId, LocalDateTime start, LocalDateTime end) {
+        List<Booking> intersectingBookings = bookingRepository.findAllIntersectingBookings(
+                itemId, BookingStatus.APPROVED, start, end, PageRequest.of(0, 1));
+        if (!intersectingBookings.isEmpty()) {
+            throw new BookingDatesIntersectWithAlreadyExistingBookingException(
+                    String.format("Item with id = %s is already booked from %s, till %s",
+                            itemId,
+                            intersectingBookings.get(0).getStart(),
+                            intersectingBookings.get(0).getEnd())
+            );
+        }
+    }
+
+    private BooleanExpression addCursorFilter(BooleanExpression byUserIdAndState, PageCursor cursor) {
+        return byUserIdAndState.and(QBooking.booking.start.lt(cursor.getPosition())
+                .or(QBooking.booking.start.eq(cursor.getPosition()).and(QBooking.booking.id.lt(cursor.getId()))));
+    }
+
     private BooleanExpression addBookingStateFilter(BooleanExpression byUserId, BookingState bookingState) {
         BooleanExpression result = byUserId;
         switch (bookingState) {
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+public class ItemBookingLocks {
+    private final Lock[] locks;
+
+    public ItemBookingLocks(@Value("${shareit.booking.item-lock-stripes:256}") int stripes) {
+        locks = new Lock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public void lockUntilTransactionCompletion(Long itemId) {
+        if (itemId == null) {
+            throw new NullPointerException("Item id must not be null");
+        }
+        lockUntilTransactionCompletion(List.of(itemId));
+    }
+
+    public void lockUntilTransactionCompletion(Collection<Long> itemIds) {
+        if (itemIds.stream().anyMatch(Objects::isNull)) {
+            throw new NullPointerException("Item id must not be null");
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Item can be locked for booking only inside transaction");
+        }
+        List<Lock> itemLocks = itemIds.stream()
+                .map(itemId -> Math.floorMod(itemId.hashCode(), locks.length))
+                .distinct()
+                .sorted()
+                .map(stripe -> locks[stripe])
+                .collect(Collectors.toList());
+        itemLocks.forEach(Lock::lock);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                itemLocks.forEach(Lock::unlock);
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Slf4j
+public class ItemBookingSummaryLoader implements ApplicationRunner {
+    private final ItemBookingSummaryRepository itemBookingSummaryRepository;
+    private final ItemBookingSummaryManager itemBookingSummaryManager;
+    private final int chunkSize;
+
+    public ItemBookingSummaryLoader(ItemBookingSummaryRepository itemBookingSummaryRepository,
+                                    ItemBookingSummaryManager itemBookingSummaryManager,
+                                    @Value("${shareit.item-booking-summary.load-chunk-size:1000}") int chunkSize) {
+        this.itemBookingSummaryRepository = itemBookingSummaryRepository;
+        this.itemBookingSummaryManager = itemBookingSummaryManager;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        int loadedSummaries = 0;
+        List<Long> itemIds = itemBookingSummaryRepository.findAllItemIdsWithoutSummaryAfter(0L, page);
+        while (!itemIds.isEmpty()) {
+            try {
+                itemBookingSummaryManager.rebuild(itemIds);
+                loadedSummaries += itemIds.size();
+            } catch (DataIntegrityViolationException exception) {
+                loadedSummaries += rebuildOneByOne(itemIds);
+            }
+            itemIds = itemBookingSummaryRepository.findAllItemIdsWithoutSummaryAfter(itemIds.get(itemIds.size() - 1),
+                    page);
+        }
+        log.info("Booking summaries of {} items without them have been built", loadedSummaries);
+    }
+
+    private int rebuildOneByOne(List<Long> itemIds) {
+        int loadedSummaries = 0;
+        for (Long itemId : itemIds) {
+            try {
+                itemBookingSummaryManager.rebuild(List.of(itemId));
+                loadedSummaries++;
+            } catch (DataIntegrityViolationException exception) {
+                log.warn("Booking summary of item with id = {} has not been built and has been skipped", itemId,
+                        exception);
+            }
+        }
+        return loadedSummaries;
+    }
+}
@@ -0,0 +1,210 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingInfo;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ItemBookingSummaryManager {
+    private static final int ROLL_FORWARD_CHUNK_SIZE = 1000;
+    private static final int LOCK_BATCH_SIZE = 16;
+
+    private final ItemBookingSummaryRepository itemBookingSummaryRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemBookingLocks itemBookingLocks;
+    private final TransactionTemplate transactionTemplate;
+
+    public ItemBookingSummaryManager(ItemBookingSummaryRepository itemBookingSummaryRepository,
+                                     BookingRepository bookingRepository,
+                                     ItemBookingLocks itemBookingLocks,
+                                     PlatformTransactionManager transactionManager) {
+        this.itemBookingSummaryRepository = itemBookingSummaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.itemBookingLocks = itemBookingLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public void createSummary(Long itemId) {
+        itemBookingSummaryRepository.save(new ItemBookingSummary(itemId));
+    }
+
+    @Transactional
+    public void addBooking(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        itemBookingLocks.lockUntilTransactionCompletion(itemId);
+        ItemBookingSummary summary = itemBookingSummaryRepository.findById(itemId).orElse(null);
+        if (summary == null) {
+            rebuildSummaries(List.of(itemId), LocalDateTime.now());
+            return;
+        }
+        if (booking.getStatus() == BookingStatus.APPROVED) {
+            addApprovedBooking(summary, booking, LocalDateTime.now());
+            itemBookingSummaryRepository.save(summary);
+        }
+    }
+
+    @Transactional
+    public void approveBooking(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        itemBookingLocks.lockUntilTransactionCompletion(itemId);
+        ItemBookingSummary summary = itemBookingSummaryRepository.findById(itemId).orElse(null);
+        if (summary == null) {
+            rebuildSummaries(List.of(itemId), LocalDateTime.now());
+            return;
+        }
+        addApprovedBooking(summary, booking, LocalDateTime.now());
+        itemBookingSummaryRepository.save(summary);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, ItemBookingSummary> getSummaries(Collection<Long> itemIds, LocalDateTime now) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ItemBookingSummary> result = itemBookingSummaryRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemBookingSummary::getItemId, Function.identity()));
+        List<Long> outdatedItemIds = itemIds.stream()
+                .filter(itemId -> !result.containsKey(itemId) || isOutdated(result.get(itemId), now))
+                .collect(Collectors.toList());
+        if (outdatedItemIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, ItemBookingInfo> lastBookings = findLastBookings(outdatedItemIds, now);
+        Map<Long, ItemBookingInfo> nextBookings = findNextBookings(outdatedItemIds, now);
+        for (Long itemId : outdatedItemIds) {
+            ItemBookingSummary summary = new ItemBookingSummary(itemId);
+            setLastBooking(summary, lastBookings.get(itemId));
+            setNextBooking(summary, nextBookings.get(itemId));
+            result.put(itemId, summary);
+        }
+        return result;
+    }
+
+    public synchronized void rebuild(Collection<Long> itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        inLockBatches(List.copyOf(itemIds), batch -> rebuildSummaries(batch, now));
+        log.info("Booking summaries of {} items have been rebuilt", itemIds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.item-booking-summary.roll-forward-delay:60000}")
+    public synchronized void rollForward() {
+        rollForwardSummaries(LocalDateTime.now());
+    }
+
+    public synchronized void rollForward(LocalDateTime now) {
+        rollForwardSummaries(now);
+    }
+
+    private void rollForwardSummaries(LocalDateTime now) {
+        List<Long> itemIds = itemBookingSummaryRepository.findAllByNextBookingStartLessThanEqualOrderByItemId(
+                now, PageRequest.of(0, ROLL_FORWARD_CHUNK_SIZE)).stream()
+                .map(ItemBookingSummary::getItemId)
+                .collect(Collectors.toList());
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        inLockBatches(itemIds, batch -> {
+            Map<Long, ItemBookingInfo> lastBookings = findLastBookings(batch, now);
+            Map<Long, ItemBookingInfo> nextBookings = findNextBookings(batch, now);
+            for (ItemBookingSummary summary : itemBookingSummaryRepository.findAllById(batch)) {
+                setLastBooking(summary, lastBookings.get(summary.getItemId()));
+                setNextBooking(summary, nextBookings.get(summary.getItemId()));
+            }
+        });
+        log.info("Booking summaries of {} items have been rolled forward", itemIds.size());
+    }
+
+    private void inLockBatches(List<Long> itemIds, Consumer<List<Long>> action) {
+        for (int from = 0; from < itemIds.size(); from += LOCK_BATCH_SIZE) {
+            List<Long> batch = itemIds.subList(from, Math.min(from + LOCK_BATCH_SIZE, itemIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                itemBookingLocks.lockUntilTransactionCompletion(batch);
+                action.accept(batch);
+            });
+        }
+    }
+
+    private void rebuildSummaries(Collection<Long> itemIds, LocalDateTime now) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        Map<Long, ItemBookingInfo> lastBookings = findLastBookings(itemIds, now);
+        Map<Long, ItemBookingInfo> nextBookings = findNextBookings(itemIds, now);
+        Map<Long, ItemBookingSummary> summaries = itemBookingSummaryRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemBookingSummary::getItemId, Function.identity()));
+        List<ItemBookingSummary> result = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            ItemBookingSummary summary = summaries.getOrDefault(itemId, new ItemBookingSummary(itemId));
+            setLastBooking(summary, lastBookings.get(itemId));
+            setNextBooking(summary, nextBookings.get(itemId));
+            result.add(summary);
+        }
+        itemBookingSummaryRepository.saveAll(result);
+    }
+
+    private void addApprovedBooking(ItemBookingSummary summary, Booking booking, LocalDateTime now) {
+        ItemBookingInfo itemBooking = new ItemBookingInfo(summary.getItemId(), booking.getId(),
+                booking.getBooker().getId(), booking.getStart());
+        if (booking.getStart().isBefore(now) && (summary.getLastBookingStart() == null ||
+                booking.getStart().isAfter(summary.getLastBookingStart()))) {
+            setLastBooking(summary, itemBooking);
+        }
+        if (booking.getStart().isAfter(now) && (summary.getNextBookingStart() == null ||
+                booking.getStart().isBefore(summary.getNextBookingStart()))) {
+            setNextBooking(summary, itemBooking);
+        }
+    }
+
+    private boolean isOutdated(ItemBookingSummary summary, LocalDateTime now) {
+        return summary.getNextBookingStart() != null && !summary.getNextBookingStart().isAfter(now);
+    }
+
+    private void setLastBooking(ItemBookingSummary summary, ItemBookingInfo lastBooking) {
+        summary.setLastBookingId(lastBooking == null ? null : lastBooking.getId());
+        summary.setLastBookerId(lastBooking == null ? null : lastBooking.getBookerId());
+        summary.setLastBookingStart(lastBooking == null ? null : lastBooking.getStart());
+    }
+
+    private void setNextBooking(ItemBookingSummary summary, ItemBookingInfo nextBooking) {
+        summary.setNextBookingId(nextBooking == null ? null : nextBooking.getId());
+        summary.setNextBookerId(nextBooking == null ? null : nextBooking.getBookerId());
+        summary.setNextBookingStart(nextBooking == null ? null : nextBooking.getStart());
+    }
+
+    private Map<Long, ItemBookingInfo> findLastBookings(Collection<Long> itemIds, LocalDateTime now) {
+        return toItemBookingByItemIds(bookingRepository.findLastBookings(itemIds, now));
+    }
+
+    private Map<Long, ItemBookingInfo> findNextBookings(Collection<Long> itemIds, LocalDateTime now) {
+        return toItemBookingByItemIds(bookingRepository.findNextBookings(itemIds, now));
+    }
+
+    private Map<Long, ItemBookingInfo> toItemBookingByItemIds(List<ItemBookingInfo> itemBookings) {
+        Map<Long, ItemBookingInfo> result = new HashMap<>();
+        for (ItemBookingInfo itemBooking : itemBookings) {
+            result.merge(itemBooking.getItemId(), itemBooking,
+                    (oldBooking, newBooking) -> oldBooking.getId() < newBooking.getId() ? oldBooking : newBooking);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long> {
+    List<ItemBookingSummary> findAllByNextBookingStartLessThanEqualOrderByItemId(LocalDateTime now, Pageable page);
+
+    @Query("select i.id " +
+            "from Item as i " +
+            "where i.id > ?1 " +
+            "and not exists (select s.itemId " +
+            "from ItemBookingSummary as s " +
+            "where s.itemId = i.id) " +
+            "order by i.id")
+    List<Long> findAllItemIdsWithoutSummaryAfter(Long itemId, Pageable page);
+}
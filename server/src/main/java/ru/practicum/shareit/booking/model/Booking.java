@@ -1,7 +1,6 @@
 package ru.practicum.shareit.booking.model;
 
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
@@ -12,7 +11,6 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "bookings")
 @Data
-@RequiredArgsConstructor
 public class Booking {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,10 +37,22 @@ public class Booking {
     @ToString.Exclude
     private final Item item;
 
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private final Long ownerId;
+
+    public Booking(LocalDateTime start, LocalDateTime end, User booker, Item item) {
+        this.start = start;
+        this.end = end;
+        this.booker = booker;
+        this.item = item;
+        ownerId = item.getOwner().getId();
+    }
+
     Booking() {
         start = null;
         end = null;
         booker = null;
         item = null;
+        ownerId = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BookingPeriod {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ItemBookingInfo {
+    private final Long itemId;
+    private final Long id;
+    private final Long bookerId;
+    private final LocalDateTime start;
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "item_booking_summaries")
+@Data
+@RequiredArgsConstructor
+public class ItemBookingSummary {
+    @Id
+    @Column(name = "item_id")
+    private final Long itemId;
+
+    @Column(name = "last_booking_id")
+    private Long lastBookingId;
+
+    @Column(name = "last_booker_id")
+    private Long lastBookerId;
+
+    @Column(name = "last_start_date")
+    private LocalDateTime lastBookingStart;
+
+    @Column(name = "next_booking_id")
+    private Long nextBookingId;
+
+    @Column(name = "next_booker_id")
+    private Long nextBookerId;
+
+    @Column(name = "next_start_date")
+    private LocalDateTime nextBookingStart;
+
+    ItemBookingSummary() {
+        itemId = null;
+    }
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,7 +19,8 @@ public class ErrorHandler {
     @ExceptionHandler({
             NotAvailableItemException.class,
             CanNotUpdateBookingStatusException.class,
-            PostingCommentWithoutCompletedBookingException.class
+            PostingCommentWithoutCompletedBookingException.class,
+            InvalidCursorException.class
     })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleBadRequestError(Throwable exception) {
@@ -26,7 +28,11 @@ public class ErrorHandler {
         return new ErrorResponse(exception.getMessage());
     }
 
-    @ExceptionHandler ({EmailIsAlreadyInUseException.class, BookingDatesIntersectWithAlreadyExistingBookingException.class})
+    @ExceptionHandler ({
+            EmailIsAlreadyInUseException.class,
+            BookingDatesIntersectWithAlreadyExistingBookingException.class,
+            ObjectOptimisticLockingFailureException.class
+    })
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorResponse handlePuttingConflictingDataError(Throwable exception) {
         log.warn("Request on putting object conflicting with already existing objects has been received\n{}",
@@ -34,6 +40,14 @@ public class ErrorHandler {
         return new ErrorResponse(exception.getMessage());
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ErrorResponse handlePreconditionFailedError(PreconditionFailedException exception) {
+        log.warn("Request on changing object modified since it has been read has been received\n{}",
+                exception.getMessage());
+        return new ErrorResponse(exception.getMessage());
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleObjectNotFoundError(ObjectNotFoundException exception) {
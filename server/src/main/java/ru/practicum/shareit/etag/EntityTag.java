@@ -0,0 +1,33 @@
+package ru.practicum.shareit.etag;
+
+import lombok.Data;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@Data
+public class EntityTag {
+    private static final String ANY = "*";
+
+    private final Long version;
+    private final String value;
+
+    public static EntityTag of(Long version, Object... states) {
+        if (states.length == 0) {
+            return new EntityTag(version, "\"" + version + "\"");
+        }
+        String state = Arrays.stream(states)
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return new EntityTag(version,
+                "\"" + version + "-" + DigestUtils.md5DigestAsHex(state.getBytes(StandardCharsets.UTF_8)) + "\"");
+    }
+
+    public boolean matches(String ifMatch) {
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals(ANY) || tag.equals(value));
+    }
+}
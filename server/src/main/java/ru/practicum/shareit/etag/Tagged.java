@@ -0,0 +1,15 @@
+package ru.practicum.shareit.etag;
+
+import lombok.Data;
+
+import java.util.function.Supplier;
+
+@Data
+public class Tagged<T> {
+    private final EntityTag entityTag;
+    private final Supplier<T> valueSupplier;
+
+    public T getValue() {
+        return valueSupplier.get();
+    }
+}
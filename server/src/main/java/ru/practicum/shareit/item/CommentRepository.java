@@ -11,6 +11,8 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByItemId(Long itemId);
 
+    long countByItemId(Long itemId);
+
     @Query("select c " +
             "from Comment as c " +
             "join fetch c.item " +
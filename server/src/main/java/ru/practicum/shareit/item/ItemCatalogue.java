@@ -0,0 +1,246 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.CataloguedItem;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ItemCatalogue {
+    private final Map<Long, CataloguedItem> items = new ConcurrentHashMap<>();
+    private final Posting allItems = new Posting();
+    private final Map<Integer, Posting> postings = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Integer> terms = new ConcurrentSkipListMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public boolean put(Item item) {
+        boolean result = items.compute(item.getId(), (id, oldItem) -> {
+            CataloguedItem newItem = item.getAvailable() ? new CataloguedItem(item) : null;
+            Set<Integer> newGrams = newItem == null ? Set.of() : newItem.getGrams();
+            Set<String> newTerms = newItem == null ? Set.of() : newItem.getNameTerms();
+            Set<String> oldTerms = oldItem == null ? Set.of() : oldItem.getNameTerms();
+            newGrams.forEach(gram -> addPosting(gram, id));
+            if (oldItem != null) {
+                oldItem.getGrams().stream()
+                        .filter(gram -> !newGrams.contains(gram))
+                        .forEach(gram -> removePosting(gram, id));
+            }
+            newTerms.stream()
+                    .filter(term -> !oldTerms.contains(term))
+                    .forEach(this::addTerm);
+            oldTerms.stream()
+                    .filter(term -> !newTerms.contains(term))
+                    .forEach(this::removeTerm);
+            if (newItem != null) {
+                allItems.add(id);
+            } else {
+                allItems.remove(id);
+            }
+            return newItem;
+        }) != null;
+        generation.incrementAndGet();
+        return result;
+    }
+
+    public void remove(Long id) {
+        items.computeIfPresent(id, (k, oldItem) -> {
+            oldItem.getGrams().forEach(gram -> removePosting(gram, id));
+            oldItem.getNameTerms().forEach(this::removeTerm);
+            allItems.remove(id);
+            return null;
+        });
+        generation.incrementAndGet();
+    }
+
+    public void clear() {
+        items.keySet().forEach(this::remove);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public boolean isChangedInTransaction() {
+        return getTransactionChanges() != null;
+    }
+
+    public void change(Consumer<ItemCatalogueChanges> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ItemCatalogueChanges itemCatalogueChanges = new ItemCatalogueChanges();
+            change.accept(itemCatalogueChanges);
+            itemCatalogueChanges.applyTo(this);
+            return;
+        }
+        ItemCatalogueChanges itemCatalogueChanges = getTransactionChanges();
+        if (itemCatalogueChanges == null) {
+            ItemCatalogueChanges newItemCatalogueChanges = new ItemCatalogueChanges();
+            TransactionSynchronizationManager.bindResource(this, newItemCatalogueChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    newItemCatalogueChanges.applyTo(ItemCatalogue.this);
+                    log.info("Item Catalogue changes of committed transaction have been applied");
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(ItemCatalogue.this);
+                }
+            });
+            itemCatalogueChanges = newItemCatalogueChanges;
+        }
+        change.accept(itemCatalogueChanges);
+    }
+
+    public List<Long> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    public List<Long> search(String query, int limit) {
+        return search(query, 0L, limit);
+    }
+
+    public List<Long> search(String query, long afterId, int limit) {
+        ItemCatalogueChanges itemCatalogueChanges = getTransactionChanges();
+        if (itemCatalogueChanges == null) {
+            return searchCommitted(query, afterId, limit);
+        }
+        List<Long> result = itemCatalogueChanges.search(query).stream()
+                .filter(id -> id > afterId)
+                .collect(Collectors.toList());
+        if (!itemCatalogueChanges.isCleared()) {
+            searchCommitted(query, afterId, (int) Math.min((long) limit + itemCatalogueChanges.size(),
+                    Integer.MAX_VALUE)).stream()
+                    .filter(id -> !itemCatalogueChanges.isChanged(id))
+                    .forEach(result::add);
+        }
+        result.sort(Comparator.naturalOrder());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        for (String term : terms.tailMap(prefix).keySet()) {
+            if (result.size() == limit || !term.startsWith(prefix)) {
+                break;
+            }
+            result.add(term);
+        }
+        return result;
+    }
+
+    private List<Long> searchCommitted(String query, long afterId, int limit) {
+        byte[] encodedQuery = CataloguedItem.encode(query);
+        if (encodedQuery.length < CataloguedItem.GRAM_LENGTH) {
+            return scan(allItems, List.of(), encodedQuery, afterId, limit);
+        }
+        Posting smallestPosting = null;
+        List<Posting> otherPostings = new ArrayList<>();
+        for (Integer gram : CataloguedItem.getGrams(encodedQuery, 0, encodedQuery.length)) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            if (smallestPosting == null || posting.size() < smallestPosting.size()) {
+                if (smallestPosting != null) {
+                    otherPostings.add(smallestPosting);
+                }
+                smallestPosting = posting;
+            } else {
+                otherPostings.add(posting);
+            }
+        }
+        return scan(smallestPosting, otherPostings, encodedQuery, afterId, limit);
+    }
+
+    private ItemCatalogueChanges getTransactionChanges() {
+        return (ItemCatalogueChanges) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private List<Long> scan(Posting posting, List<Posting> otherPostings, byte[] query, long afterId,
+                            int limit) {
+        List<Long> result = new ArrayList<>();
+        for (Long id : posting.ids.tailSet(afterId, false)) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (otherPostings.stream().allMatch(otherPosting -> otherPosting.contains(id))) {
+                CataloguedItem item = items.get(id);
+                if (item != null && item.contains(query)) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void addPosting(Integer gram, Long id) {
+        postings.compute(gram, (k, posting) -> {
+            Posting result = posting == null ? new Posting() : posting;
+            result.add(id);
+            return result;
+        });
+    }
+
+    private void removePosting(Integer gram, Long id) {
+        postings.computeIfPresent(gram, (k, posting) -> {
+            posting.remove(id);
+            return posting.size() == 0 ? null : posting;
+        });
+    }
+
+    private void addTerm(String term) {
+        terms.merge(term, 1, Integer::sum);
+    }
+
+    private void removeTerm(String term) {
+        terms.computeIfPresent(term, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static class Posting {
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(Long id) {
+            if (ids.add(id)) {
+                size.incrementAndGet();
+            }
+        }
+
+        void remove(Long id) {
+            if (ids.remove(id)) {
+                size.decrementAndGet();
+            }
+        }
+
+        boolean contains(Long id) {
+            return ids.contains(id);
+        }
+
+        int size() {
+            return size.get();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item;
+
+import lombok.Getter;
+import ru.practicum.shareit.item.model.CataloguedItem;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class ItemCatalogueChanges {
+    private final Map<Long, Item> changedItems = new LinkedHashMap<>();
+    @Getter
+    private boolean cleared = false;
+
+    public void put(Item item) {
+        changedItems.put(item.getId(), item.getAvailable() ? item : null);
+    }
+
+    public void remove(Long id) {
+        changedItems.put(id, null);
+    }
+
+    public void clear() {
+        changedItems.clear();
+        cleared = true;
+    }
+
+    public boolean isChanged(Long id) {
+        return changedItems.containsKey(id);
+    }
+
+    public int size() {
+        return changedItems.size();
+    }
+
+    public List<Long> search(String query) {
+        byte[] encodedQuery = CataloguedItem.encode(query);
+        return changedItems.values().stream()
+                .filter(Objects::nonNull)
+                .filter(item -> new CataloguedItem(item).contains(encodedQuery))
+                .map(Item::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public void applyTo(ItemCatalogue itemCatalogue) {
+        if (cleared) {
+            itemCatalogue.clear();
+        }
+        changedItems.forEach((id, item) -> {
+            if (item == null) {
+                itemCatalogue.remove(id);
+            } else {
+                itemCatalogue.put(item);
+            }
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemChange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ItemCatalogueLoader implements ApplicationRunner {
+    private static final Duration CHANGE_GAP_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration CHANGE_RETENTION = Duration.ofDays(1);
+
+    private final ItemRepositoryDbInterface itemRepositoryDbInterface;
+    private final ItemChangeRepository itemChangeRepository;
+    private final ItemCatalogue itemCatalogue;
+    private final Timer loadTimer;
+    private final int chunkSize;
+    private final List<ChangeGap> changeGaps = new ArrayList<>();
+    private Long lastChangeId;
+
+    public ItemCatalogueLoader(ItemRepositoryDbInterface itemRepositoryDbInterface,
+                               ItemChangeRepository itemChangeRepository,
+                               ItemCatalogue itemCatalogue,
+                               MeterRegistry meterRegistry,
+                               @Value("${shareit.item-catalogue.load-chunk-size:1000}") int chunkSize) {
+        this.itemRepositoryDbInterface = itemRepositoryDbInterface;
+        this.itemChangeRepository = itemChangeRepository;
+        this.itemCatalogue = itemCatalogue;
+        this.chunkSize = chunkSize;
+        loadTimer = Timer.builder("item.catalogue.load")
+                .description("Time spent on loading Item Catalogue from database on start")
+                .register(meterRegistry);
+        Gauge.builder("item.catalogue.size", itemCatalogue, ItemCatalogue::size)
+                .description("Number of items in Item Catalogue")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void run(ApplicationArguments args) {
+        Long settledChangeId = itemChangeRepository.findLastChangeIdChangedBefore(
+                LocalDateTime.now().minus(CHANGE_GAP_TIMEOUT)).orElse(0L);
+        loadTimer.record(this::load);
+        changeGaps.clear();
+        lastChangeId = settledChangeId;
+        log.info("Item Catalogue has been loaded with {} items, changes after change with id {} will be replayed",
+                itemCatalogue.size(), lastChangeId);
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.item-catalogue.sync-delay:1000}")
+    public synchronized void synchronize() {
+        if (lastChangeId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!changeGaps.isEmpty()) {
+            List<ItemChange> lateChanges = new ArrayList<>();
+            List<ChangeGap> openGaps = new ArrayList<>();
+            for (ChangeGap gap : changeGaps) {
+                List<ItemChange> gapChanges = itemChangeRepository.findAllByIdBetweenOrderById(gap.getFromId(),
+                        gap.getToId());
+                lateChanges.addAll(gapChanges);
+                if (gap.getNoticed().isBefore(now.minus(CHANGE_GAP_TIMEOUT))) {
+                    continue;
+                }
+                long fromId = gap.getFromId();
+                for (ItemChange change : gapChanges) {
+                    addGap(openGaps, fromId, change.getId() - 1, gap.getNoticed());
+                    fromId = change.getId() + 1;
+                }
+                addGap(openGaps, fromId, gap.getToId(), gap.getNoticed());
+            }
+            changeGaps.clear();
+            changeGaps.addAll(openGaps);
+            apply(lateChanges);
+        }
+        PageRequest page = PageRequest.of(0, chunkSize);
+        Slice<ItemChange> chunk;
+        do {
+            chunk = itemChangeRepository.findAllByIdGreaterThanOrderById(lastChangeId, page);
+            for (ItemChange change : chunk) {
+                addGap(changeGaps, lastChangeId + 1, change.getId() - 1, now);
+                lastChangeId = change.getId();
+            }
+            apply(chunk.getContent());
+        } while (chunk.hasNext());
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.item-catalogue.change-prune-delay:3600000}")
+    public void pruneChanges() {
+        int pruned = itemChangeRepository.deleteAllButLastByChangedBefore(
+                LocalDateTime.now().minus(CHANGE_RETENTION));
+        if (pruned > 0) {
+            log.info("{} item changes older than {} has been pruned", pruned, CHANGE_RETENTION);
+        }
+    }
+
+    private void load() {
+        itemCatalogue.clear();
+        PageRequest page = PageRequest.of(0, chunkSize);
+        Long lastId = 0L;
+        Slice<Item> chunk;
+        do {
+            chunk = itemRepositoryDbInterface.findAllByAvailableTrueAndIdGreaterThanOrderById(lastId, page);
+            List<Item> items = chunk.getContent();
+            if (!items.isEmpty()) {
+                items.forEach(itemCatalogue::put);
+                lastId = items.get(items.size() - 1).getId();
+            }
+        } while (chunk.hasNext());
+    }
+
+    private void addGap(List<ChangeGap> gaps, long fromId, long toId, LocalDateTime noticed) {
+        if (fromId <= toId) {
+            gaps.add(new ChangeGap(fromId, toId, noticed));
+        }
+    }
+
+    private void apply(List<ItemChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Long> changedIds = changes
+                .stream()
+                .map(ItemChange::getItemId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Item> changedItems = itemRepositoryDbInterface.findAllById(changedIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        for (Long id : changedIds) {
+            Item item = changedItems.get(id);
+            if (item != null) {
+                itemCatalogue.put(item);
+            } else {
+                itemCatalogue.remove(id);
+            }
+        }
+        log.info("Item Catalogue has been synchronized with {} changes up to change with id {}",
+                changes.size(), lastChangeId);
+    }
+
+    @Data
+    private static class ChangeGap {
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime noticed;
+    }
+}
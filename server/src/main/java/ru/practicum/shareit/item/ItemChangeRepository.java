@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.ItemChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ItemChangeRepository extends JpaRepository<ItemChange, Long> {
+    Slice<ItemChange> findAllByIdGreaterThanOrderById(Long id, Pageable page);
+
+    List<ItemChange> findAllByIdBetweenOrderById(Long fromId, Long toId);
+
+    @Query("select max(c.id) " +
+            "from ItemChange as c " +
+            "where c.changed < ?1")
+    Optional<Long> findLastChangeIdChangedBefore(LocalDateTime changed);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ItemChange as c " +
+            "where c.changed < ?1 " +
+            "and c.id < (select max(lc.id) " +
+            "from ItemChange as lc " +
+            "where lc.changed < ?1)")
+    int deleteAllButLastByChangedBefore(LocalDateTime changed);
+}
@@ -2,11 +2,17 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreePeriodDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.page.PageCursor;
 
+import javax.servlet.http.HttpServletResponse;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -26,18 +32,31 @@ public class ItemController {
     }
 
     @GetMapping("/{id}")
-    public ItemDto getItemById(@PathVariable Long id, @RequestHeader(HEADER_USER_ID) Long userId) {
+    public ItemDto getItemById(@PathVariable Long id, @RequestHeader(HEADER_USER_ID) Long userId,
+                               WebRequest request) {
         log.info("Request on getting item with id = {} by user with id = {} has been received", id, userId);
-        return itemService.getItemById(id, userId);
+        Tagged<ItemDto> result = itemService.getTaggedItemById(id, userId);
+        if (request.checkNotModified(result.getEntityTag().getValue())) {
+            log.info("Item with id = {} has not been modified since last request", id);
+            return null;
+        }
+        return result.getValue();
     }
 
     @GetMapping
     public List<ItemDto> getAllItemsByOwnerId(@RequestHeader(HEADER_USER_ID) Long ownerId,
                                               @RequestParam Integer from,
-                                              @RequestParam Integer size) {
+                                              @RequestParam Integer size,
+                                              @RequestParam(required = false) String cursor,
+                                              HttpServletResponse response) {
         log.info("Request on getting all items of user with id = {} " +
-                "with page parameters from = {} and size = {} has been received", ownerId, from, size);
-        return itemService.getAllItemsByOwnerId(ownerId, from, size);
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                ownerId, from, size, cursor);
+        List<ItemDto> result = cursor == null || cursor.isBlank()
+                ? itemService.getAllItemsByOwnerId(ownerId, from, size)
+                : itemService.getAllItemsByOwnerIdAfter(ownerId, cursor, size);
+        setNextCursor(response, result, size);
+        return result;
     }
 
     @PostMapping
@@ -56,7 +75,8 @@ public class ItemController {
     @PatchMapping("/{id}")
     public ItemDto updateItemById(@RequestBody ItemDto itemDto,
                                   @PathVariable Long id,
-                                  @RequestHeader(HEADER_USER_ID) Long ownerId) {
+                                  @RequestHeader(HEADER_USER_ID) Long ownerId,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request on patching item with\nid = {}\nname = {}\ndescription = {}\navailable = {}\nrequestId = {}" +
                 "\nby user with id = {} has been received",
                 id,
@@ -65,7 +85,7 @@ public class ItemController {
                 itemDto.getAvailable(),
                 itemDto.getRequestId(),
                 ownerId);
-        return itemService.updateItem(itemDto, id, ownerId);
+        return itemService.updateItem(itemDto, id, ownerId, ifMatch);
     }
 
     @DeleteMapping("/{id}")
@@ -82,11 +102,49 @@ public class ItemController {
 
     @GetMapping("/search")
     public List<ItemDto> searchItems(@RequestParam("text") String query,
+                                     @RequestParam(required = false) String start,
+                                     @RequestParam(required = false) String end,
                                      @RequestParam Integer from,
-                                     @RequestParam Integer size) {
-        log.info("Request on getting items by searchQuery = \"{}\" " +
-                "with page parameters from = {} and size = {} has been received", query, from, size);
-        return itemService.searchItems(query.toLowerCase(), from, size);
+                                     @RequestParam Integer size,
+                                     @RequestParam(required = false) String cursor,
+                                     HttpServletResponse response) {
+        log.info("Request on getting items by searchQuery = \"{}\" free from {} till {} " +
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                query, start, end, from, size, cursor);
+        boolean byCursor = cursor != null && !cursor.isBlank();
+        List<ItemDto> result;
+        if (start == null || end == null) {
+            result = byCursor
+                    ? itemService.searchItemsAfter(query.toLowerCase(), cursor, size)
+                    : itemService.searchItems(query.toLowerCase(), from, size);
+        } else {
+            result = byCursor
+                    ? itemService.searchItemsAfter(query.toLowerCase(), LocalDateTime.parse(start),
+                    LocalDateTime.parse(end), cursor, size)
+                    : itemService.searchItems(query.toLowerCase(), LocalDateTime.parse(start),
+                    LocalDateTime.parse(end), from, size);
+        }
+        setNextCursor(response, result, size);
+        return result;
+    }
+
+    @GetMapping("/suggest")
+    public List<String> suggestItemNames(@RequestParam String prefix, @RequestParam Integer size) {
+        log.info("Request on getting item name suggestions by prefix = \"{}\" " +
+                "with size = {} has been received", prefix, size);
+        return itemService.suggestItemNames(prefix.toLowerCase(), size);
+    }
+
+    @GetMapping("/{id}/availability")
+    public List<FreePeriodDto> getItemAvailability(@PathVariable Long id,
+                                                   @RequestHeader(HEADER_USER_ID) Long userId,
+                                                   @RequestParam String from,
+                                                   @RequestParam String to,
+                                                   @RequestParam Boolean includeWaiting) {
+        log.info("Request on getting availability of item with id = {} from {} till {} " +
+                "with includeWaiting = {} by user with id = {} has been received", id, from, to, includeWaiting, userId);
+        return itemService.getItemAvailability(id, userId, LocalDateTime.parse(from), LocalDateTime.parse(to),
+                includeWaiting);
     }
 
     @PostMapping("/{id}/comment")
@@ -100,4 +158,11 @@ public class ItemController {
                 authorId);
         return itemService.createComment(commentDto, itemId, authorId, LocalDateTime.parse(commentDto.getCreated()));
     }
+
+    private void setNextCursor(HttpServletResponse response, List<ItemDto> result, Integer size) {
+        if (result.size() == size) {
+            response.setHeader(PageCursor.HEADER_NEXT_CURSOR,
+                    PageCursor.of(result.get(result.size() - 1).getId()).encode());
+        }
+    }
 }
\ No newline at end of file
@@ -2,17 +2,22 @@ package ru.practicum.shareit.item;
 
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.booking.dto.BookingInfo;
+import ru.practicum.shareit.booking.model.BookingPeriod;
+import ru.practicum.shareit.item.dto.FreePeriodDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoForBooking;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @UtilityClass
 public class ItemMapper {
+    private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
     public ItemDto toItemDto(Item item, BookingInfo lastBooking, BookingInfo nextBooking) {
         ItemDto result = new ItemDto(
                 item.getName(),
@@ -45,4 +50,11 @@ public class ItemMapper {
     public ItemDtoForBooking toItemDtoForBooking(Item item) {
         return new ItemDtoForBooking(item.getId(), item.getName());
     }
+
+    public List<FreePeriodDto> toFreePeriodDto(List<BookingPeriod> freePeriods) {
+        return freePeriods.stream()
+                .map(freePeriod -> new FreePeriodDto(freePeriod.getStart().format(formatter),
+                        freePeriod.getEnd().format(formatter)))
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
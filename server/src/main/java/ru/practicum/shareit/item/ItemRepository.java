@@ -13,6 +13,8 @@ public interface ItemRepository {
 
     List<Item> getAllByOwnerId(Long ownerId, Integer from, Integer size);
 
+    List<Item> getAllByOwnerIdAfterId(Long ownerId, Long afterId, Integer size);
+
     Item create(Item item);
 
     Item update(Item item, Long id);
@@ -25,6 +27,10 @@ public interface ItemRepository {
 
     List<Item> searchItems(String query, Integer from, Integer size);
 
+    List<Item> searchItemsAfterId(String query, Long afterId, Integer size);
+
+    List<String> suggestItemNames(String prefix, Integer size);
+
     void checkForPresenceById(Long id);
 
     List<Item> getAllItemsByRequestId(Long requestId);
@@ -5,12 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
-import ru.practicum.shareit.item.model.CataloguedItem;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemChange;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Repository
@@ -18,7 +17,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ItemRepositoryDbImpl implements ItemRepository {
     private final ItemRepositoryDbInterface itemRepositoryDbInterface;
-    private final Map<Long, CataloguedItem> itemCatalogue = new HashMap<>();
+    private final ItemChangeRepository itemChangeRepository;
+    private final ItemCatalogue itemCatalogue;
+    private final ItemSearchEngine itemSearchEngine;
 
     @Override
     public List<Item> getAll() {
@@ -50,6 +51,19 @@ public class ItemRepositoryDbImpl implements ItemRepository {
         return itemRepositoryDbInterface.findAllByOwnerIdOrderById(ownerId, page).getContent();
     }
 
+    @Override
+    public List<Item> getAllByOwnerIdAfterId(Long ownerId, Long afterId, Integer size) {
+        if (ownerId == null) {
+            throw new NullPointerException("Owner id must not be null");
+        }
+        if (afterId == null) {
+            throw new NullPointerException("After id must not be null");
+        }
+        PageRequest page = PageRequest.of(0, size);
+        return itemRepositoryDbInterface.findAllByOwnerIdAndIdGreaterThanOrderById(ownerId, afterId, page)
+                .getContent();
+    }
+
     @Override
     public Item create(Item item) {
         if (item == null) {
@@ -81,6 +95,7 @@ public class ItemRepositoryDbImpl implements ItemRepository {
                 item.getItemRequest() != null ? item.getItemRequest() : oldItem.getItemRequest()
         );
         updatedItem.setId(id);
+        updatedItem.setVersion(item.getVersion() != null ? item.getVersion() : oldItem.getVersion());
         Item result = itemRepositoryDbInterface.saveAndFlush(updatedItem);
         log.info("Item with id {} has been updated", updatedItem.getId());
         if (updateItemCatalogue(result)) {
@@ -100,7 +115,8 @@ public class ItemRepositoryDbImpl implements ItemRepository {
         itemRepositoryDbInterface.deleteById(id);
         log.info("Item with id {} has been deleted", id);
         if (deletedItem.getAvailable()) {
-            itemCatalogue.remove(id);
+            recordItemChanges(List.of(id));
+            itemCatalogue.change(itemCatalogueChanges -> itemCatalogueChanges.remove(id));
             log.info("Item with id {} has been removed from Item Catalogue", id);
         }
         return deletedItem;
@@ -108,9 +124,11 @@ public class ItemRepositoryDbImpl implements ItemRepository {
 
     @Override
     public void deleteAll() {
+        List<Long> idsOfItemsToDelete = itemRepositoryDbInterface.findAllIds();
         itemRepositoryDbInterface.deleteAll();
         log.info("All items has been deleted");
-        itemCatalogue.clear();
+        recordItemChanges(idsOfItemsToDelete);
+        itemCatalogue.change(ItemCatalogueChanges::clear);
         log.info("All items has been removed from Item Catalogue");
     }
 
@@ -140,9 +158,11 @@ public class ItemRepositoryDbImpl implements ItemRepository {
                     .map(Item::getId)
                     .collect(Collectors.toList());
             if (!idsOfItemsToDeleteFromCatalogue.isEmpty()) {
+                recordItemChanges(idsOfItemsToDeleteFromCatalogue);
+                itemCatalogue.change(itemCatalogueChanges ->
+                        idsOfItemsToDeleteFromCatalogue.forEach(itemCatalogueChanges::remove));
                 StringBuilder logMessageForItemDeletionFromCatalogue = new StringBuilder("Items with id: ");
                 for (Long id : idsOfItemsToDeleteFromCatalogue) {
-                    itemCatalogue.remove(id);
                     logMessageForItemDeletionFromCatalogue.append(id).append(", ");
                 }
                 logMessageForItemDeletionFromCatalogue.delete(
@@ -161,13 +181,26 @@ public class ItemRepositoryDbImpl implements ItemRepository {
         if (query.isBlank()) {
             return List.of();
         }
-        List<Long> foundItemsIds = itemCatalogue.entrySet().stream()
-                .filter(entry -> entry.getValue().getName().contains(query) ||
-                        entry.getValue().getDescription().contains(query))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        PageRequest page = PageRequest.of(from / size, size);
-        return itemRepositoryDbInterface.findAllByIdIn(foundItemsIds, page).getContent();
+        return itemSearchEngine.searchItems(query, from, size);
+    }
+
+    @Override
+    public List<Item> searchItemsAfterId(String query, Long afterId, Integer size) {
+        if (query.isBlank()) {
+            return List.of();
+        }
+        if (afterId == null) {
+            throw new NullPointerException("After id must not be null");
+        }
+        return itemSearchEngine.searchItemsAfter(query, afterId, size);
+    }
+
+    @Override
+    public List<String> suggestItemNames(String prefix, Integer size) {
+        if (prefix.isBlank()) {
+            return List.of();
+        }
+        return itemCatalogue.suggest(prefix, size);
     }
 
     @Override
@@ -197,8 +230,16 @@ public class ItemRepositoryDbImpl implements ItemRepository {
     }
 
     private boolean updateItemCatalogue(Item item) {
-        return itemCatalogue.compute(
-                item.getId(), (k, v) -> item.getAvailable() ? new CataloguedItem(item) : null
-        ) != null;
+        recordItemChanges(List.of(item.getId()));
+        itemCatalogue.change(itemCatalogueChanges -> itemCatalogueChanges.put(item));
+        return item.getAvailable();
+    }
+
+    private void recordItemChanges(List<Long> ids) {
+        LocalDateTime changed = LocalDateTime.now();
+        itemChangeRepository.saveAll(ids
+                .stream()
+                .map(id -> new ItemChange(id, changed))
+                .collect(Collectors.toList()));
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +16,73 @@ import java.util.Optional;
 public interface ItemRepositoryDbInterface extends JpaRepository<Item, Long> {
     List<Item> findAllByOwnerId(Long ownerId);
 
-    Page<Item> findAllByOwnerIdOrderById(Long ownerId, Pageable page);
+    Slice<Item> findAllByOwnerIdOrderById(Long ownerId, Pageable page);
 
-    Page<Item> findAllByIdIn(Iterable<Long> ids, Pageable page);
+    Slice<Item> findAllByOwnerIdAndIdGreaterThanOrderById(Long ownerId, Long id, Pageable page);
+
+    @Query("select i.id " +
+            "from Item as i")
+    List<Long> findAllIds();
+
+    List<Item> findAllByIdInOrderById(Iterable<Long> ids);
+
+    Slice<Item> findAllByAvailableTrueAndIdGreaterThanOrderById(Long id, Pageable page);
+
+    @Query("select i " +
+            "from Item as i " +
+            "where i.available = true " +
+            "and (lower(i.name) like ?1 escape '\\' or lower(i.description) like ?1 escape '\\') " +
+            "order by i.id")
+    Slice<Item> searchAvailableItems(String pattern, Pageable page);
+
+    @Query("select i " +
+            "from Item as i " +
+            "where i.available = true " +
+            "and (lower(i.name) like ?1 escape '\\' or lower(i.description) like ?1 escape '\\') " +
+            "and i.id > ?2 " +
+            "order by i.id")
+    Slice<Item> searchAvailableItemsAfter(String pattern, Long id, Pageable page);
+
+    @Query("select i " +
+            "from Item as i " +
+            "where i.available = true " +
+            "and (lower(i.name) like ?1 escape '\\' or lower(i.description) like ?1 escape '\\') " +
+            "and not exists (select b.id " +
+            "from Booking as b " +
+            "where b.item = i " +
+            "and b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and b.end >= ?2 " +
+            "and b.start <= ?3) " +
+            "order by i.id")
+    Slice<Item> searchAvailableItemsFreeBetween(String pattern, LocalDateTime start, LocalDateTime end,
+                                                Pageable page);
+
+    @Query("select i " +
+            "from Item as i " +
+            "where i.available = true " +
+            "and (lower(i.name) like ?1 escape '\\' or lower(i.description) like ?1 escape '\\') " +
+            "and i.id > ?4 " +
+            "and not exists (select b.id " +
+            "from Booking as b " +
+            "where b.item = i " +
+            "and b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and b.end >= ?2 " +
+            "and b.start <= ?3) " +
+            "order by i.id")
+    Slice<Item> searchAvailableItemsFreeBetweenAfter(String pattern, LocalDateTime start, LocalDateTime end,
+                                                     Long id, Pageable page);
+
+    @Query("select i.id " +
+            "from Item as i " +
+            "where i.id in ?1 " +
+            "and not exists (select b.id " +
+            "from Booking as b " +
+            "where b.item = i " +
+            "and b.status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED " +
+            "and b.end >= ?2 " +
+            "and b.start <= ?3) " +
+            "order by i.id")
+    List<Long> findAllIdsFreeBetween(Collection<Long> ids, LocalDateTime start, LocalDateTime end);
 
     @Query("select i " +
             "from Item as i " +
@@ -26,7 +92,13 @@ public interface ItemRepositoryDbInterface extends JpaRepository<Item, Long> {
 
     void deleteAllByOwnerId(Long ownerId);
 
+    @Query("select i " +
+            "from Item as i " +
+            "where i.itemRequest.id = ?1")
     List<Item> findAllByItemRequestId(Long requestId);
 
+    @Query("select i " +
+            "from Item as i " +
+            "where i.itemRequest.id in ?1")
     List<Item> findAllByItemRequestIdIn(List<Long> requestIds);
 }
\ No newline at end of file
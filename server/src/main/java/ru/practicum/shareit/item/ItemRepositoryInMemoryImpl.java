@@ -3,10 +3,10 @@ package ru.practicum.shareit.item;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
-import ru.practicum.shareit.item.model.CataloguedItem;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +16,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ItemRepositoryInMemoryImpl implements ItemRepository {
     private final Map<Long, Item> items = new HashMap<>();
-    private final Map<Long, CataloguedItem> itemCatalogue = new HashMap<>();
+    private final ItemCatalogue itemCatalogue = new ItemCatalogue();
     private Long nextId = 1L;
 
     @Override
@@ -47,6 +47,22 @@ public class ItemRepositoryInMemoryImpl implements ItemRepository {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Item> getAllByOwnerIdAfterId(Long ownerId, Long afterId, Integer size) {
+        if (ownerId == null) {
+            throw new NullPointerException("Owner id must not be null");
+        }
+        if (afterId == null) {
+            throw new NullPointerException("After id must not be null");
+        }
+        return items.values().stream()
+                .filter(item -> item.getOwner().getId().equals(ownerId))
+                .filter(item -> item.getId() > afterId)
+                .sorted(Comparator.comparing(Item::getId))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Item create(Item item) {
         if (item == null) {
@@ -121,10 +137,7 @@ public class ItemRepositoryInMemoryImpl implements ItemRepository {
         if (query.isBlank()) {
             return List.of();
         }
-        return itemCatalogue.entrySet().stream()
-                .filter(entry -> entry.getValue().getName().contains(query) ||
-                        entry.getValue().getDescription().contains(query))
-                .map(Map.Entry::getKey)
+        return itemCatalogue.search(query).stream()
                 .map(id -> {
                     checkForPresenceById(id);
                     return getById(id);
@@ -132,6 +145,30 @@ public class ItemRepositoryInMemoryImpl implements ItemRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Item> searchItemsAfterId(String query, Long afterId, Integer size) {
+        if (query.isBlank()) {
+            return List.of();
+        }
+        if (afterId == null) {
+            throw new NullPointerException("After id must not be null");
+        }
+        return itemCatalogue.search(query, afterId, size).stream()
+                .map(id -> {
+                    checkForPresenceById(id);
+                    return getById(id);
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> suggestItemNames(String prefix, Integer size) {
+        if (prefix.isBlank()) {
+            return List.of();
+        }
+        return itemCatalogue.suggest(prefix, size);
+    }
+
     @Override
     public void checkForPresenceById(Long id) {
         if (id == null) {
@@ -157,9 +194,7 @@ public class ItemRepositoryInMemoryImpl implements ItemRepository {
     }
 
     private boolean updateItemCatalogue(Item item) {
-        return itemCatalogue.compute(
-                item.getId(), (k, v) -> item.getAvailable() ? new CataloguedItem(item) : null
-        ) != null;
+        return itemCatalogue.put(item);
     }
 
     private void deleteByIdList(List<Long> idList) {
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class ItemSearchCache {
+    private final ItemCatalogue itemCatalogue;
+    private final Cache<Key, List<ItemDto>> cache;
+
+    public ItemSearchCache(ItemCatalogue itemCatalogue,
+                           MeterRegistry meterRegistry,
+                           @Value("${shareit.item-search.cache.maximum-weight:100000}") long maximumWeight) {
+        this.itemCatalogue = itemCatalogue;
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, List<ItemDto> items) -> 1 + items.size())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "item.search");
+        Gauge.builder("item.search.cache.hit.ratio", cache, searchCache -> searchCache.stats().hitRate())
+                .description("Ratio of item searches served from cache")
+                .register(meterRegistry);
+    }
+
+    public List<ItemDto> get(String query, Integer from, Integer size, Supplier<List<ItemDto>> search) {
+        return get(query, null, from, size, search);
+    }
+
+    public List<ItemDto> getAfterId(String query, Long afterId, Integer size, Supplier<List<ItemDto>> search) {
+        return get(query, afterId, null, size, search);
+    }
+
+    private List<ItemDto> get(String query, Long afterId, Integer from, Integer size,
+                              Supplier<List<ItemDto>> search) {
+        if (itemCatalogue.isChangedInTransaction()) {
+            return search.get();
+        }
+        Key key = new Key(itemCatalogue.getGeneration(), query.toLowerCase(), afterId, from, size);
+        return cache.get(key, k -> List.copyOf(search.get()));
+    }
+
+    @Data
+    private static class Key {
+        private final long generation;
+        private final String query;
+        private final Long afterId;
+        private final Integer from;
+        private final Integer size;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemSearchEngine {
+    List<Item> searchItems(String query, Integer from, Integer size);
+
+    List<Item> searchItems(String query, LocalDateTime start, LocalDateTime end, Integer from, Integer size);
+
+    List<Item> searchItemsAfter(String query, Long afterId, Integer size);
+
+    List<Item> searchItemsAfter(String query, LocalDateTime start, LocalDateTime end, Long afterId, Integer size);
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "shareit.item-search.engine", havingValue = "catalogue", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ItemSearchEngineCatalogueImpl implements ItemSearchEngine {
+    private final ItemRepositoryDbInterface itemRepositoryDbInterface;
+    private final ItemCatalogue itemCatalogue;
+
+    @Override
+    public List<Item> searchItems(String query, Integer from, Integer size) {
+        int offset = from / size * size;
+        List<Long> foundItemsIds = itemCatalogue.search(query, offset + size);
+        if (foundItemsIds.size() <= offset) {
+            return List.of();
+        }
+        return itemRepositoryDbInterface.findAllByIdInOrderById(foundItemsIds.subList(offset, foundItemsIds.size()));
+    }
+
+    @Override
+    public List<Item> searchItems(String query, LocalDateTime start, LocalDateTime end, Integer from, Integer size) {
+        return searchFreeItems(query, start, end, 0L, from / size * size, size);
+    }
+
+    @Override
+    public List<Item> searchItemsAfter(String query, Long afterId, Integer size) {
+        List<Long> foundItemsIds = itemCatalogue.search(query, afterId, size);
+        if (foundItemsIds.isEmpty()) {
+            return List.of();
+        }
+        return itemRepositoryDbInterface.findAllByIdInOrderById(foundItemsIds);
+    }
+
+    @Override
+    public List<Item> searchItemsAfter(String query, LocalDateTime start, LocalDateTime end, Long afterId,
+                                       Integer size) {
+        return searchFreeItems(query, start, end, afterId, 0, size);
+    }
+
+    private List<Item> searchFreeItems(String query, LocalDateTime start, LocalDateTime end, long afterId,
+                                       int offset, int size) {
+        int candidatesLimit = offset + size;
+        while (true) {
+            List<Long> foundItemsIds = itemCatalogue.search(query, afterId, candidatesLimit);
+            List<Long> freeItemsIds = foundItemsIds.isEmpty() ? List.of() :
+                    itemRepositoryDbInterface.findAllIdsFreeBetween(foundItemsIds, start, end);
+            if (freeItemsIds.size() >= offset + size || foundItemsIds.size() < candidatesLimit ||
+                    candidatesLimit == Integer.MAX_VALUE) {
+                if (freeItemsIds.size() <= offset) {
+                    return List.of();
+                }
+                return itemRepositoryDbInterface.findAllByIdInOrderById(
+                        freeItemsIds.subList(offset, Math.min(freeItemsIds.size(), offset + size)));
+            }
+            candidatesLimit = (int) Math.min(2L * candidatesLimit, Integer.MAX_VALUE);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "shareit.item-search.engine", havingValue = "database")
+@RequiredArgsConstructor
+public class ItemSearchEngineDbImpl implements ItemSearchEngine {
+    private final ItemRepositoryDbInterface itemRepositoryDbInterface;
+
+    @Override
+    public List<Item> searchItems(String query, Integer from, Integer size) {
+        PageRequest page = PageRequest.of(from / size, size);
+        return itemRepositoryDbInterface.searchAvailableItems(toPattern(query), page).getContent();
+    }
+
+    @Override
+    public List<Item> searchItems(String query, LocalDateTime start, LocalDateTime end, Integer from, Integer size) {
+        PageRequest page = PageRequest.of(from / size, size);
+        return itemRepositoryDbInterface.searchAvailableItemsFreeBetween(toPattern(query), start, end, page)
+                .getContent();
+    }
+
+    @Override
+    public List<Item> searchItemsAfter(String query, Long afterId, Integer size) {
+        PageRequest page = PageRequest.of(0, size);
+        return itemRepositoryDbInterface.searchAvailableItemsAfter(toPattern(query), afterId, page).getContent();
+    }
+
+    @Override
+    public List<Item> searchItemsAfter(String query, LocalDateTime start, LocalDateTime end, Long afterId,
+                                       Integer size) {
+        PageRequest page = PageRequest.of(0, size);
+        return itemRepositoryDbInterface.searchAvailableItemsFreeBetweenAfter(toPattern(query), start, end, afterId,
+                page).getContent();
+    }
+
+    private String toPattern(String query) {
+        return "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item;
 
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreePeriodDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import java.time.LocalDateTime;
@@ -12,11 +14,15 @@ public interface ItemService {
 
     ItemDto getItemById(Long id, Long userId);
 
+    Tagged<ItemDto> getTaggedItemById(Long id, Long userId);
+
     List<ItemDto> getAllItemsByOwnerId(Long ownerId, Integer from, Integer size);
 
+    List<ItemDto> getAllItemsByOwnerIdAfter(Long ownerId, String cursor, Integer size);
+
     ItemDto createItem(ItemDto itemDto, Long ownerId);
 
-    ItemDto updateItem(ItemDto itemDto, Long id, Long ownerId);
+    ItemDto updateItem(ItemDto itemDto, Long id, Long ownerId, String ifMatch);
 
     ItemDto deleteItemById(Long id, Long ownerId);
 
@@ -24,5 +30,16 @@ public interface ItemService {
 
     List<ItemDto> searchItems(String query, Integer from, Integer size);
 
+    List<ItemDto> searchItems(String query, LocalDateTime start, LocalDateTime end, Integer from, Integer size);
+
+    List<ItemDto> searchItemsAfter(String query, String cursor, Integer size);
+
+    List<ItemDto> searchItemsAfter(String query, LocalDateTime start, LocalDateTime end, String cursor, Integer size);
+
+    List<String> suggestItemNames(String prefix, Integer size);
+
+    List<FreePeriodDto> getItemAvailability(Long id, Long userId, LocalDateTime from, LocalDateTime to,
+                                            boolean includeWaiting);
+
     CommentDto createComment(CommentDto commentDto, Long itemId, Long authorId, LocalDateTime created);
 }
\ No newline at end of file
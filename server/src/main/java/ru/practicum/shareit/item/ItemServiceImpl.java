@@ -7,16 +7,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.ItemBookingSummaryManager;
 import ru.practicum.shareit.booking.dto.BookingInfo;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingPeriod;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.exception.DataAccessException;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.exception.PostingCommentWithoutCompletedBookingException;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreePeriodDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.page.PageCursor;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserRepository;
@@ -40,6 +48,9 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
 
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchCache itemSearchCache;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemBookingSummaryManager itemBookingSummaryManager;
 
     @Override
     @Transactional(readOnly = true)
@@ -50,19 +61,25 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional(readOnly = true)
     public ItemDto getItemById(Long id, Long userId) {
+        return getTaggedItemById(id, userId).getValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Tagged<ItemDto> getTaggedItemById(Long id, Long userId) {
         userRepository.checkForPresenceById(userId);
         itemRepository.checkForPresenceById(id);
         Item foundItem = itemRepository.getById(id);
-        ItemDto result;
-        if (foundItem.getOwner().getId().equals(userId)) {
-            List<Booking> bookings = bookingRepository.findAllByItemIdOrderByStart(id);
-            LocalDateTime now = LocalDateTime.now();
-            result = toItemDto(foundItem, findLastBooking(now, bookings), findNextBooking(now, bookings));
-        } else {
-            result = toItemDto(foundItem, null, null);
+        long commentsCount = commentRepository.countByItemId(id);
+        if (!foundItem.getOwner().getId().equals(userId)) {
+            return new Tagged<>(EntityTag.of(foundItem.getVersion(), commentsCount),
+                    () -> toItemDtoWithComments(foundItem, null, null));
         }
-        addCommentsToItemDto(result, toCommentDto(commentRepository.findAllByItemId(id)));
-        return result;
+        ItemBookingSummary summary = itemBookingSummaryManager.getSummaries(List.of(id), LocalDateTime.now()).get(id);
+        BookingInfo lastBooking = BookingMapper.getLastBookingInfo(summary);
+        BookingInfo nextBooking = BookingMapper.getNextBookingInfo(summary);
+        return new Tagged<>(EntityTag.of(foundItem.getVersion(), commentsCount, lastBooking, nextBooking),
+                () -> toItemDtoWithComments(foundItem, lastBooking, nextBooking));
     }
 
     @Override
@@ -71,31 +88,15 @@ public class ItemServiceImpl implements ItemService {
         userRepository.checkForPresenceById(ownerId);
         List<Item> foundItems = itemRepository.getAllByOwnerId(ownerId, from, size);
         System.out.println(foundItems);
-        List<Long> foundItemsIds = foundItems.stream().map(Item::getId).collect(Collectors.toList());
-        List<Booking> bookings = bookingRepository.findAllByItemIdOrderByStart(foundItemsIds);
-        Map<Long, List<Booking>> bookingsByItemIds = new HashMap<>();
-        for (Item item : foundItems) {
-            bookingsByItemIds.put(item.getId(), new ArrayList<>());
-        }
-        for (Booking booking : bookings) {
-            bookingsByItemIds.get(booking.getItem().getId()).add(booking);
-        }
-        LocalDateTime now = LocalDateTime.now();
-        List<ItemDto> result =  foundItems.stream()
-                .map(item -> toItemDto(item,
-                findLastBooking(now, bookingsByItemIds.get(item.getId())),
-                findNextBooking(now, bookingsByItemIds.get(item.getId()))))
-                .collect(Collectors.toList());
-        List<Comment> comments = commentRepository.findAllByItemIdIn(foundItemsIds);
-        Map<Long, List<Comment>> commentsByItemIds = new HashMap<>();
-        for (Item item : foundItems) {
-            commentsByItemIds.put(item.getId(), new ArrayList<>());
-        }
-        for (Comment comment : comments) {
-            commentsByItemIds.get(comment.getItem().getId()).add(comment);
-        }
-        result.forEach(itemDto -> addCommentsToItemDto(itemDto, toCommentDto(commentsByItemIds.get(itemDto.getId()))));
-        return result;
+        return toItemDtoWithBookingsAndComments(foundItems);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> getAllItemsByOwnerIdAfter(Long ownerId, String cursor, Integer size) {
+        userRepository.checkForPresenceById(ownerId);
+        Long afterId = PageCursor.decodeId(cursor).getId();
+        return toItemDtoWithBookingsAndComments(itemRepository.getAllByOwnerIdAfterId(ownerId, afterId, size));
     }
 
     @Override
@@ -103,16 +104,25 @@ public class ItemServiceImpl implements ItemService {
     public ItemDto createItem(ItemDto itemDto, Long ownerId) {
         userRepository.checkForPresenceById(ownerId);
         Item item = getItemWithItemRequest(itemDto, ownerId);
-        return toItemDto(itemRepository.create(item), null, null);
+        Item result = itemRepository.create(item);
+        itemBookingSummaryManager.createSummary(result.getId());
+        return toItemDto(result, null, null);
     }
 
     @Override
     @Transactional
-    public ItemDto updateItem(ItemDto itemDto, Long id, Long ownerId) {
+    public ItemDto updateItem(ItemDto itemDto, Long id, Long ownerId, String ifMatch) {
         userRepository.checkForPresenceById(ownerId);
         itemRepository.checkForPresenceById(id);
         checkForDataAccessRights(id, ownerId, "Can not update someone else's item");
         Item item = getItemWithItemRequest(itemDto, ownerId);
+        if (ifMatch != null) {
+            EntityTag entityTag = getItemEntityTag(itemRepository.getById(id), ownerId);
+            if (!entityTag.matches(ifMatch)) {
+                throw new PreconditionFailedException(String.format("Item with id = %s has been modified", id));
+            }
+            item.setVersion(entityTag.getVersion());
+        }
         return toItemDto(itemRepository.update(item, id), null, null);
     }
 
@@ -134,7 +144,56 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> searchItems(String query, Integer from, Integer size) {
-        return toItemDto(itemRepository.searchItems(query, from, size));
+        return itemSearchCache.get(query, from, size, () ->
+                toItemDto(itemRepository.searchItems(query, from, size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchItems(String query, LocalDateTime start, LocalDateTime end,
+                                     Integer from, Integer size) {
+        if (query.isBlank()) {
+            return List.of();
+        }
+        return toItemDto(itemSearchEngine.searchItems(query, start, end, from, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchItemsAfter(String query, String cursor, Integer size) {
+        Long afterId = PageCursor.decodeId(cursor).getId();
+        return itemSearchCache.getAfterId(query, afterId, size, () ->
+                toItemDto(itemRepository.searchItemsAfterId(query, afterId, size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchItemsAfter(String query, LocalDateTime start, LocalDateTime end, String cursor,
+                                     Integer size) {
+        Long afterId = PageCursor.decodeId(cursor).getId();
+        if (query.isBlank()) {
+            return List.of();
+        }
+        return toItemDto(itemSearchEngine.searchItemsAfter(query, start, end, afterId, size));
+    }
+
+    @Override
+    public List<String> suggestItemNames(String prefix, Integer size) {
+        return itemRepository.suggestItemNames(prefix, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FreePeriodDto> getItemAvailability(Long id, Long userId, LocalDateTime from, LocalDateTime to,
+                                                   boolean includeWaiting) {
+        userRepository.checkForPresenceById(userId);
+        itemRepository.checkForPresenceById(id);
+        List<BookingPeriod> bookingPeriods = bookingRepository.findAllIntersectingBookingPeriods(
+                id,
+                includeWaiting ? List.of(BookingStatus.APPROVED, BookingStatus.WAITING) : List.of(BookingStatus.APPROVED),
+                from,
+                to);
+        return toFreePeriodDto(findFreePeriods(from, to, bookingPeriods));
     }
 
     @Override
@@ -164,20 +223,62 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private BookingInfo findLastBooking(LocalDateTime now, List<Booking> bookings) {
-        Optional<Booking> optionalLastBooking = bookings.stream()
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED))
-                .filter(booking -> booking.getStart().isBefore(now))
-                .max(Comparator.comparing(Booking::getStart));
-        return optionalLastBooking.map(BookingMapper::getBookingInfo).orElse(null);
+    private ItemDto toItemDtoWithComments(Item item, BookingInfo lastBooking, BookingInfo nextBooking) {
+        ItemDto result = toItemDto(item, lastBooking, nextBooking);
+        addCommentsToItemDto(result, toCommentDto(commentRepository.findAllByItemId(item.getId())));
+        return result;
     }
 
-    private BookingInfo findNextBooking(LocalDateTime now, List<Booking> bookings) {
-        Optional<Booking> optionalNextBooking = bookings.stream()
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED))
-                .filter(booking -> now.isBefore(booking.getStart()))
-                .findFirst();
-        return optionalNextBooking.map(BookingMapper::getBookingInfo).orElse(null);
+    private EntityTag getItemEntityTag(Item item, Long userId) {
+        long commentsCount = commentRepository.countByItemId(item.getId());
+        if (!item.getOwner().getId().equals(userId)) {
+            return EntityTag.of(item.getVersion(), commentsCount);
+        }
+        ItemBookingSummary summary = itemBookingSummaryManager.getSummaries(List.of(item.getId()),
+                LocalDateTime.now()).get(item.getId());
+        return EntityTag.of(item.getVersion(), commentsCount,
+                BookingMapper.getLastBookingInfo(summary),
+                BookingMapper.getNextBookingInfo(summary));
+    }
+
+    private List<BookingPeriod> findFreePeriods(LocalDateTime from, LocalDateTime to,
+                                                List<BookingPeriod> bookingPeriods) {
+        List<BookingPeriod> result = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (BookingPeriod bookingPeriod : bookingPeriods) {
+            if (bookingPeriod.getStart().isAfter(freeFrom)) {
+                result.add(new BookingPeriod(freeFrom, bookingPeriod.getStart()));
+            }
+            if (bookingPeriod.getEnd().isAfter(freeFrom)) {
+                freeFrom = bookingPeriod.getEnd();
+            }
+            if (!freeFrom.isBefore(to)) {
+                return result;
+            }
+        }
+        result.add(new BookingPeriod(freeFrom, to));
+        return result;
+    }
+
+    private List<ItemDto> toItemDtoWithBookingsAndComments(List<Item> foundItems) {
+        List<Long> foundItemsIds = foundItems.stream().map(Item::getId).collect(Collectors.toList());
+        Map<Long, ItemBookingSummary> summariesByItemIds = itemBookingSummaryManager.getSummaries(foundItemsIds,
+                LocalDateTime.now());
+        List<ItemDto> result =  foundItems.stream()
+                .map(item -> toItemDto(item,
+                BookingMapper.getLastBookingInfo(summariesByItemIds.get(item.getId())),
+                BookingMapper.getNextBookingInfo(summariesByItemIds.get(item.getId()))))
+                .collect(Collectors.toList());
+        List<Comment> comments = commentRepository.findAllByItemIdIn(foundItemsIds);
+        Map<Long, List<Comment>> commentsByItemIds = new HashMap<>();
+        for (Item item : foundItems) {
+            commentsByItemIds.put(item.getId(), new ArrayList<>());
+        }
+        for (Comment comment : comments) {
+            commentsByItemIds.get(comment.getItem().getId()).add(comment);
+        }
+        result.forEach(itemDto -> addCommentsToItemDto(itemDto, toCommentDto(commentsByItemIds.get(itemDto.getId()))));
+        return result;
     }
 
     private void addCommentsToItemDto(ItemDto itemDto, List<CommentDto> commentsDto) {
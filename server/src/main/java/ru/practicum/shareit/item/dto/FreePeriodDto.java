@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Data;
+
+@Data
+public class FreePeriodDto {
+    private final String start;
+    private final String end;
+}
@@ -1,14 +1,72 @@
 package ru.practicum.shareit.item.model;
 
-import lombok.Getter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
 
-@Getter
 public class CataloguedItem {
-    private final String name;
-    private final String description;
+    public static final int GRAM_LENGTH = 3;
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final byte[] text;
+    private final int nameLength;
 
     public CataloguedItem(Item item) {
-        this.name = item.getName().toLowerCase();
-        this.description = item.getDescription().toLowerCase();
+        byte[] name = encode(item.getName());
+        byte[] description = encode(item.getDescription());
+        text = new byte[name.length + description.length];
+        System.arraycopy(name, 0, text, 0, name.length);
+        System.arraycopy(description, 0, text, name.length, description.length);
+        nameLength = name.length;
+    }
+
+    public boolean contains(byte[] query) {
+        return contains(query, 0, nameLength) || contains(query, nameLength, text.length);
+    }
+
+    public Set<Integer> getGrams() {
+        Set<Integer> result = getGrams(text, 0, nameLength);
+        result.addAll(getGrams(text, nameLength, text.length));
+        return result;
+    }
+
+    public Set<String> getNameTerms() {
+        Set<String> result = new HashSet<>();
+        for (String term : TERM_SEPARATOR.split(new String(text, 0, nameLength, StandardCharsets.UTF_8))) {
+            if (!term.isEmpty()) {
+                result.add(term);
+            }
+        }
+        return result;
+    }
+
+    public static byte[] encode(String text) {
+        return text.toLowerCase().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Set<Integer> getGrams(byte[] text, int from, int to) {
+        Set<Integer> result = new HashSet<>();
+        for (int i = from; i + GRAM_LENGTH <= to; i++) {
+            result.add(((text[i] & 0xFF) << 16) | ((text[i + 1] & 0xFF) << 8) | (text[i + 2] & 0xFF));
+        }
+        return result;
+    }
+
+    private boolean contains(byte[] query, int from, int to) {
+        if (query.length == 0) {
+            return true;
+        }
+        int last = query.length - 1;
+        byte firstByte = query[0];
+        byte lastByte = query[last];
+        for (int i = from + last; i < to; i++) {
+            if (text[i] == lastByte && text[i - last] == firstByte &&
+                    Arrays.equals(text, i - last, i, query, 0, last)) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -37,6 +37,10 @@ public class Item {
     @ToString.Exclude
     private final ItemRequest itemRequest;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     Item() {
         name = null;
         description = null;
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "item_changes")
+@Data
+@RequiredArgsConstructor
+public class ItemChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private final Long itemId;
+
+    @Column(nullable = false)
+    private final LocalDateTime changed;
+
+    ItemChange() {
+        itemId = null;
+        changed = null;
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.page;
+
+import lombok.Data;
+import ru.practicum.shareit.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Data
+public class PageCursor {
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime position;
+    private final Long id;
+
+    public static PageCursor of(Long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(String position, Long id) {
+        return new PageCursor(LocalDateTime.parse(position), id);
+    }
+
+    public static PageCursor decodeId(String cursor) {
+        PageCursor result = decode(cursor);
+        if (result.getPosition() != null) {
+            throw new InvalidCursorException(String.format("Cursor %s does not point to id", cursor));
+        }
+        return result;
+    }
+
+    public static PageCursor decodePosition(String cursor) {
+        PageCursor result = decode(cursor);
+        if (result.getPosition() == null) {
+            throw new InvalidCursorException(String.format("Cursor %s does not point to position", cursor));
+        }
+        return result;
+    }
+
+    public String encode() {
+        String value = position == null ? String.valueOf(id) : position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PageCursor decode(String cursor) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, -1);
+            if (values.length == 1) {
+                return new PageCursor(null, Long.parseLong(values[0]));
+            }
+            if (values.length == 2) {
+                return new PageCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidCursorException(String.format("Cursor %s is invalid", cursor));
+        }
+        throw new InvalidCursorException(String.format("Cursor %s is invalid", cursor));
+    }
+}
@@ -3,8 +3,12 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.etag.Tagged;
+import ru.practicum.shareit.page.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
+import javax.servlet.http.HttpServletResponse;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -27,18 +31,35 @@ public class ItemRequestController {
     @GetMapping("/all")
     public List<ItemRequestDto> getAllItemRequestsByUserId(@RequestHeader(HEADER_USER_ID) Long userId,
                                                            @RequestParam Integer from,
-                                                           @RequestParam Integer size) {
+                                                           @RequestParam Integer size,
+                                                           @RequestParam(required = false) String cursor,
+                                                           HttpServletResponse response) {
         log.info("Request on getting all item requests by user with id = {} " +
-                "with page parameters from = {} and size = {} has been received", userId, from, size);
-        return itemRequestService.getAllItemRequestsByUserId(userId, from, size);
+                "with page parameters from = {}, size = {} and cursor = {} has been received",
+                userId, from, size, cursor);
+        List<ItemRequestDto> result = cursor == null || cursor.isBlank()
+                ? itemRequestService.getAllItemRequestsByUserId(userId, from, size)
+                : itemRequestService.getAllItemRequestsByUserIdAfter(userId, cursor, size);
+        if (result.size() == size) {
+            ItemRequestDto lastItemRequest = result.get(result.size() - 1);
+            response.setHeader(PageCursor.HEADER_NEXT_CURSOR,
+                    PageCursor.of(lastItemRequest.getCreated(), lastItemRequest.getId()).encode());
+        }
+        return result;
     }
 
     @GetMapping("/{requestId}")
     public ItemRequestDto getItemRequestById(@PathVariable Long requestId,
-                                             @RequestHeader(HEADER_USER_ID) Long userId) {
+                                             @RequestHeader(HEADER_USER_ID) Long userId,
+                                             WebRequest request) {
         log.info("Request on getting item request with id = {} from user with id = {} has been received",
                 requestId, userId);
-        return itemRequestService.getItemRequestById(requestId, userId);
+        Tagged<ItemRequestDto> result = itemRequestService.getTaggedItemRequestById(requestId, userId);
+        if (request.checkNotModified(result.getEntityTag().getValue())) {
+            log.info("Item request with id = {} has not been modified since last request", requestId);
+            return null;
+        }
+        return result.getValue();
     }
 
     @PostMapping
@@ -1,16 +1,25 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
     List<ItemRequest> findAllByCreatorIdOrderByCreatedDesc(Long creatorId);
 
-    Page<ItemRequest> findAllByCreatorIdNotOrderByCreatedDesc(Long creatorId, Pageable page);
+    Slice<ItemRequest> findAllByCreatorIdNotOrderByCreatedDescIdDesc(Long creatorId, Pageable page);
+
+    @Query("select r " +
+            "from ItemRequest as r " +
+            "where r.creator.id <> ?1 " +
+            "and (r.created < ?2 or (r.created = ?2 and r.id < ?3)) " +
+            "order by r.created desc, r.id desc")
+    Slice<ItemRequest> findAllByCreatorIdNotBefore(Long creatorId, LocalDateTime created, Long id, Pageable page);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request;
 
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.time.LocalDateTime;
@@ -10,7 +11,11 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getAllItemRequestsByUserId(Long userId, Integer from, Integer size);
 
+    List<ItemRequestDto> getAllItemRequestsByUserIdAfter(Long userId, String cursor, Integer size);
+
     ItemRequestDto getItemRequestById(Long requestId, Long userId);
 
+    Tagged<ItemRequestDto> getTaggedItemRequestById(Long requestId, Long userId);
+
     ItemRequestDto createItemRequest(ItemRequestDto itemRequestDto, Long creatorId, LocalDateTime created);
 }
\ No newline at end of file
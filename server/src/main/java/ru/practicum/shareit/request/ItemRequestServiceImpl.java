@@ -6,9 +6,13 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.page.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserRepository;
@@ -48,20 +52,46 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         userRepository.checkForPresenceById(userId);
         PageRequest page = PageRequest.of(from / size, size);
         List<ItemRequestDto> foundItemRequests =
-                toItemRequestDto(itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDesc(userId, page)
+                toItemRequestDto(itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDescIdDesc(userId, page)
                         .getContent());
         return addItemsToRequestsDto(foundItemRequests);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestDto> getAllItemRequestsByUserIdAfter(Long userId, String cursor, Integer size) {
+        userRepository.checkForPresenceById(userId);
+        PageCursor pageCursor = PageCursor.decodePosition(cursor);
+        PageRequest page = PageRequest.of(0, size);
+        List<ItemRequestDto> foundItemRequests =
+                toItemRequestDto(itemRequestRepository.findAllByCreatorIdNotBefore(userId,
+                        pageCursor.getPosition(), pageCursor.getId(), page).getContent());
+        return addItemsToRequestsDto(foundItemRequests);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ItemRequestDto getItemRequestById(Long requestId, Long userId) {
+        return getTaggedItemRequestById(requestId, userId).getValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Tagged<ItemRequestDto> getTaggedItemRequestById(Long requestId, Long userId) {
         userRepository.checkForPresenceById(userId);
         Optional<ItemRequest> possibleItemRequest = itemRequestRepository.findById(requestId);
         if (possibleItemRequest.isPresent()) {
-            ItemRequestDto result = toItemRequestDto(possibleItemRequest.get());
-            addItemsToRequestDto(result, toItemDto(itemRepository.getAllItemsByRequestId(result.getId())));
-            return result;
+            ItemRequest itemRequest = possibleItemRequest.get();
+            List<Item> items = itemRepository.getAllItemsByRequestId(requestId);
+            EntityTag entityTag = EntityTag.of(itemRequest.getVersion(), items.stream()
+                    .sorted(Comparator.comparing(Item::getId))
+                    .map(item -> item.getId() + ":" + item.getVersion())
+                    .toArray());
+            return new Tagged<>(entityTag, () -> {
+                ItemRequestDto result = toItemRequestDto(itemRequest);
+                addItemsToRequestDto(result, toItemDto(items));
+                return result;
+            });
         } else throw new ObjectNotFoundException(String.format("Item request with id = %s not found", requestId));
     }
 
@@ -29,6 +29,10 @@ public class ItemRequest {
     @ToString.Exclude
     private final User creator;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     ItemRequest() {
         description = null;
         created = null;
@@ -2,8 +2,11 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
@@ -22,9 +25,14 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public UserDto getUserById(@PathVariable Long userId) {
+    public UserDto getUserById(@PathVariable Long userId, WebRequest request) {
         log.info("Request on getting user with id = {} has been received", userId);
-        return userService.getUserById(userId);
+        Tagged<UserDto> result = userService.getTaggedUserById(userId);
+        if (request.checkNotModified(result.getEntityTag().getValue())) {
+            log.info("User with id = {} has not been modified since last request", userId);
+            return null;
+        }
+        return result.getValue();
     }
 
     @PostMapping
@@ -37,12 +45,13 @@ public class UserController {
     }
 
     @PatchMapping("/{userId}")
-    public UserDto updateUser(@RequestBody UserDto userDto, @PathVariable Long userId) {
+    public UserDto updateUser(@RequestBody UserDto userDto, @PathVariable Long userId,
+                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request on patching user with\nid = {}\nname = {}\nemail = {}\nhas been received",
                 userId,
                 userDto.getName(),
                 userDto.getEmail());
-        return userService.updateUser(userDto, userId);
+        return userService.updateUser(userDto, userId, ifMatch);
     }
 
     @DeleteMapping("/{userId}")
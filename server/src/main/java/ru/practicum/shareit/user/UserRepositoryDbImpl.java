@@ -58,6 +58,7 @@ public class UserRepositoryDbImpl implements UserRepository {
                 user.getEmail() != null ? user.getEmail() : oldUser.getEmail()
         );
         updatedUser.setId(id);
+        updatedUser.setVersion(user.getVersion() != null ? user.getVersion() : oldUser.getVersion());
         try {
             User result = userRepositoryDbInterface.saveAndFlush(updatedUser);
             log.info("User with id {} has been updated", result.getId());
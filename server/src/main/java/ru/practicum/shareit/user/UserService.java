@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user;
 
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
@@ -9,9 +10,11 @@ public interface UserService {
 
     UserDto getUserById(Long id);
 
+    Tagged<UserDto> getTaggedUserById(Long id);
+
     UserDto createUser(UserDto userDto);
 
-    UserDto updateUser(UserDto userDto, Long id);
+    UserDto updateUser(UserDto userDto, Long id, String ifMatch);
 
     UserDto deleteUserById(Long id);
 
@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.etag.Tagged;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
 
@@ -28,8 +32,15 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public UserDto getUserById(Long id) {
+        return getTaggedUserById(id).getValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Tagged<UserDto> getTaggedUserById(Long id) {
         userRepository.checkForPresenceById(id);
-        return toUserDto(userRepository.getById(id));
+        User foundUser = userRepository.getById(id);
+        return new Tagged<>(EntityTag.of(foundUser.getVersion()), () -> toUserDto(foundUser));
     }
 
     @Override
@@ -40,9 +51,17 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    public UserDto updateUser(UserDto userDto, Long id) {
+    public UserDto updateUser(UserDto userDto, Long id, String ifMatch) {
         userRepository.checkForPresenceById(id);
-        return toUserDto(userRepository.update(toUser(userDto), id));
+        User user = toUser(userDto);
+        if (ifMatch != null) {
+            EntityTag entityTag = EntityTag.of(userRepository.getById(id).getVersion());
+            if (!entityTag.matches(ifMatch)) {
+                throw new PreconditionFailedException(String.format("User with id = %s has been modified", id));
+            }
+            user.setVersion(entityTag.getVersion());
+        }
+        return toUserDto(userRepository.update(user, id));
     }
 
     @Override
@@ -21,6 +21,10 @@ public class User {
     @Column(nullable = false, unique = true)
     private final String email;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     User() {
         name = null;
         email = null;
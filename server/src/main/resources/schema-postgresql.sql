@@ -0,0 +1,43 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS ITEMS_ITEM_NAME_TRGM ON ITEMS USING GIN (LOWER(ITEM_NAME) gin_trgm_ops) WHERE AVAILABLE;
+
+CREATE INDEX IF NOT EXISTS ITEMS_DESCRIPTION_TRGM ON ITEMS USING GIN (LOWER(DESCRIPTION) gin_trgm_ops) WHERE AVAILABLE;
+
+CREATE INDEX IF NOT EXISTS BOOKINGS_APPROVED_ITEM_ID_START_DATE ON BOOKINGS (ITEM_ID, START_DATE)
+    WHERE STATUS = 'APPROVED';
+
+CREATE INDEX IF NOT EXISTS BOOKINGS_APPROVED_ITEM_ID_END_DATE ON BOOKINGS (ITEM_ID, END_DATE)
+    WHERE STATUS = 'APPROVED';
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE IF NOT EXISTS APPROVED_BOOKING_PERIODS (
+    BOOKING_ID BIGINT PRIMARY KEY,
+    ITEM_ID BIGINT NOT NULL,
+    PERIOD TSRANGE NOT NULL,
+    CONSTRAINT APPROVED_BOOKING_PERIODS_EXCL EXCLUDE USING GIST (ITEM_ID WITH =, PERIOD WITH &&)
+);
+
+CREATE OR REPLACE FUNCTION SYNC_APPROVED_BOOKING_PERIOD() RETURNS TRIGGER AS 'BEGIN
+    IF TG_OP <> ''INSERT'' THEN
+        DELETE FROM APPROVED_BOOKING_PERIODS WHERE BOOKING_ID = OLD.BOOKING_ID;
+    END IF;
+    IF TG_OP <> ''DELETE'' AND NEW.STATUS = ''APPROVED'' THEN
+        INSERT INTO APPROVED_BOOKING_PERIODS (BOOKING_ID, ITEM_ID, PERIOD)
+            VALUES (NEW.BOOKING_ID, NEW.ITEM_ID, TSRANGE(NEW.START_DATE, NEW.END_DATE, ''[]''));
+    END IF;
+    RETURN NULL;
+END' LANGUAGE PLPGSQL;
+
+DO 'BEGIN
+    IF NOT EXISTS (SELECT 1 FROM PG_TRIGGER WHERE TGRELID = ''bookings''::REGCLASS
+            AND TGNAME = ''bookings_approved_periods'') THEN
+        CREATE TRIGGER BOOKINGS_APPROVED_PERIODS AFTER INSERT OR UPDATE OR DELETE ON BOOKINGS
+            FOR EACH ROW EXECUTE FUNCTION SYNC_APPROVED_BOOKING_PERIOD();
+        INSERT INTO APPROVED_BOOKING_PERIODS (BOOKING_ID, ITEM_ID, PERIOD)
+            SELECT BOOKING_ID, ITEM_ID, TSRANGE(START_DATE, END_DATE, ''[]'') FROM BOOKINGS
+            WHERE STATUS = ''APPROVED''
+            ON CONFLICT (BOOKING_ID) DO NOTHING;
+    END IF;
+END';
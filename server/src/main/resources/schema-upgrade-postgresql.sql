@@ -0,0 +1,16 @@
+DO 'BEGIN
+    IF TO_REGCLASS(''bookings'') IS NOT NULL AND NOT EXISTS (SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS
+            WHERE TABLE_SCHEMA = CURRENT_SCHEMA() AND TABLE_NAME = ''bookings'' AND COLUMN_NAME = ''owner_id'') THEN
+        ALTER TABLE BOOKINGS ADD COLUMN OWNER_ID BIGINT;
+        UPDATE BOOKINGS SET OWNER_ID = ITEMS.OWNER_ID FROM ITEMS WHERE ITEMS.ITEM_ID = BOOKINGS.ITEM_ID;
+        ALTER TABLE BOOKINGS ALTER COLUMN OWNER_ID SET NOT NULL;
+    END IF;
+END';
+
+DO 'BEGIN
+    IF TO_REGCLASS(''bookings'') IS NOT NULL AND NOT EXISTS (SELECT 1 FROM PG_CONSTRAINT
+            WHERE CONRELID = TO_REGCLASS(''bookings'') AND CONNAME = ''bookings_owners'') THEN
+        ALTER TABLE BOOKINGS ADD CONSTRAINT BOOKINGS_OWNERS FOREIGN KEY (OWNER_ID) REFERENCES USERS(USER_ID)
+            ON DELETE RESTRICT ON UPDATE RESTRICT;
+    END IF;
+END';
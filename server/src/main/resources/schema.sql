@@ -1,17 +1,26 @@
 CREATE TABLE IF NOT EXISTS USERS (
     USER_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     USER_NAME VARCHAR(100) NOT NULL,
-    EMAIL VARCHAR(320) NOT NULL UNIQUE
+    EMAIL VARCHAR(320) NOT NULL UNIQUE,
+    VERSION BIGINT DEFAULT 0 NOT NULL
 );
 
+ALTER TABLE USERS ADD COLUMN IF NOT EXISTS VERSION BIGINT DEFAULT 0 NOT NULL;
+
 CREATE TABLE IF NOT EXISTS ITEM_REQUESTS (
     ITEM_REQUEST_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     DESCRIPTION VARCHAR(1000) NOT NULL,
     CREATED TIMESTAMP NOT NULL,
     CREATOR_ID BIGINT NOT NULL,
+    VERSION BIGINT DEFAULT 0 NOT NULL,
     CONSTRAINT ITEM_REQUESTS_USERS FOREIGN KEY (CREATOR_ID) REFERENCES USERS(USER_ID) ON DELETE RESTRICT ON UPDATE RESTRICT
 );
 
+ALTER TABLE ITEM_REQUESTS ADD COLUMN IF NOT EXISTS VERSION BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX IF NOT EXISTS ITEM_REQUESTS_CREATOR_ID_CREATED ON ITEM_REQUESTS (CREATOR_ID, CREATED DESC, ITEM_REQUEST_ID DESC);
+CREATE INDEX IF NOT EXISTS ITEM_REQUESTS_CREATED ON ITEM_REQUESTS (CREATED DESC, ITEM_REQUEST_ID DESC);
+
 CREATE TABLE IF NOT EXISTS ITEMS (
     ITEM_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     ITEM_NAME VARCHAR(100) NOT NULL,
@@ -19,10 +28,16 @@ CREATE TABLE IF NOT EXISTS ITEMS (
     AVAILABLE BOOLEAN NOT NULL,
     OWNER_ID BIGINT NOT NULL,
     ITEM_REQUEST_ID BIGINT,
+    VERSION BIGINT DEFAULT 0 NOT NULL,
     CONSTRAINT ITEMS_USERS FOREIGN KEY (OWNER_ID) REFERENCES USERS(USER_ID) ON DELETE RESTRICT ON UPDATE RESTRICT,
     CONSTRAINT ITEMS_ITEM_REQUESTS FOREIGN KEY (ITEM_REQUEST_ID) REFERENCES ITEM_REQUESTS(ITEM_REQUEST_ID) ON DELETE RESTRICT ON UPDATE RESTRICT
 );
 
+ALTER TABLE ITEMS ADD COLUMN IF NOT EXISTS VERSION BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX IF NOT EXISTS ITEMS_OWNER_ID ON ITEMS (OWNER_ID, ITEM_ID);
+CREATE INDEX IF NOT EXISTS ITEMS_ITEM_REQUEST_ID ON ITEMS (ITEM_REQUEST_ID);
+
 CREATE TABLE IF NOT EXISTS BOOKINGS (
     BOOKING_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     START_DATE TIMESTAMP NOT NULL,
@@ -30,10 +45,33 @@ CREATE TABLE IF NOT EXISTS BOOKINGS (
     STATUS VARCHAR(8) NOT NULL,
     BOOKER_ID BIGINT NOT NULL,
     ITEM_ID BIGINT NOT NULL,
+    OWNER_ID BIGINT NOT NULL,
     CONSTRAINT BOOKINGS_USERS FOREIGN KEY (BOOKER_ID) REFERENCES USERS(USER_ID) ON DELETE RESTRICT ON UPDATE RESTRICT,
-    CONSTRAINT BOOKINGS_ITEMS FOREIGN KEY (ITEM_ID) REFERENCES ITEMS(ITEM_ID) ON DELETE RESTRICT ON UPDATE RESTRICT
+    CONSTRAINT BOOKINGS_ITEMS FOREIGN KEY (ITEM_ID) REFERENCES ITEMS(ITEM_ID) ON DELETE RESTRICT ON UPDATE RESTRICT,
+    CONSTRAINT BOOKINGS_OWNERS FOREIGN KEY (OWNER_ID) REFERENCES USERS(USER_ID) ON DELETE RESTRICT ON UPDATE RESTRICT
+);
+
+CREATE INDEX IF NOT EXISTS BOOKINGS_ITEM_ID_STATUS_END_DATE ON BOOKINGS (ITEM_ID, STATUS, END_DATE);
+CREATE INDEX IF NOT EXISTS BOOKINGS_ITEM_ID_STATUS_START_DATE ON BOOKINGS (ITEM_ID, STATUS, START_DATE);
+CREATE INDEX IF NOT EXISTS BOOKINGS_ITEM_ID_START_DATE ON BOOKINGS (ITEM_ID, START_DATE DESC, BOOKING_ID DESC);
+CREATE INDEX IF NOT EXISTS BOOKINGS_BOOKER_ID_START_DATE ON BOOKINGS (BOOKER_ID, START_DATE DESC, BOOKING_ID DESC);
+CREATE INDEX IF NOT EXISTS BOOKINGS_BOOKER_ID_STATUS_START_DATE ON BOOKINGS (BOOKER_ID, STATUS, START_DATE DESC);
+CREATE INDEX IF NOT EXISTS BOOKINGS_OWNER_ID_START_DATE ON BOOKINGS (OWNER_ID, START_DATE DESC, BOOKING_ID DESC);
+CREATE INDEX IF NOT EXISTS BOOKINGS_OWNER_ID_STATUS_START_DATE ON BOOKINGS (OWNER_ID, STATUS, START_DATE DESC);
+
+CREATE TABLE IF NOT EXISTS ITEM_BOOKING_SUMMARIES (
+    ITEM_ID BIGINT PRIMARY KEY,
+    LAST_BOOKING_ID BIGINT,
+    LAST_BOOKER_ID BIGINT,
+    LAST_START_DATE TIMESTAMP,
+    NEXT_BOOKING_ID BIGINT,
+    NEXT_BOOKER_ID BIGINT,
+    NEXT_START_DATE TIMESTAMP,
+    CONSTRAINT ITEM_BOOKING_SUMMARIES_ITEMS FOREIGN KEY (ITEM_ID) REFERENCES ITEMS(ITEM_ID) ON DELETE CASCADE ON UPDATE CASCADE
 );
 
+CREATE INDEX IF NOT EXISTS ITEM_BOOKING_SUMMARIES_NEXT_START_DATE ON ITEM_BOOKING_SUMMARIES (NEXT_START_DATE);
+
 CREATE TABLE IF NOT EXISTS COMMENTS (
     COMMENT_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     ITEM_ID BIGINT NOT NULL,
@@ -41,4 +79,14 @@ CREATE TABLE IF NOT EXISTS COMMENTS (
     AUTHOR_NAME VARCHAR(100) NOT NULL,
     CREATED TIMESTAMP NOT NULL,
     CONSTRAINT COMMENTS_ITEMS FOREIGN KEY (ITEM_ID) REFERENCES ITEMS(ITEM_ID) ON DELETE CASCADE ON UPDATE CASCADE
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS COMMENTS_ITEM_ID ON COMMENTS (ITEM_ID);
+
+CREATE TABLE IF NOT EXISTS ITEM_CHANGES (
+    CHANGE_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    ITEM_ID BIGINT NOT NULL,
+    CHANGED TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ITEM_CHANGES_CHANGED ON ITEM_CHANGES (CHANGED);
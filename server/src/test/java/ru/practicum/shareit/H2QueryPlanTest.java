@@ -0,0 +1,91 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.ItemBookingSummaryRepository;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemChangeRepository;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(StatementRecorder.class)
+@Transactional
+class H2QueryPlanTest extends QueryPlanTest {
+
+    @Autowired
+    H2QueryPlanTest(JdbcTemplate jdbcTemplate,
+                    StatementRecorder statementRecorder,
+                    UserRepositoryDbInterface userRepository,
+                    ItemRequestRepository itemRequestRepository,
+                    ItemRepositoryDbInterface itemRepository,
+                    BookingRepository bookingRepository,
+                    CommentRepository commentRepository,
+                    ItemBookingSummaryRepository itemBookingSummaryRepository,
+                    ItemChangeRepository itemChangeRepository,
+                    BookingService bookingService) {
+        super(jdbcTemplate, statementRecorder, userRepository, itemRequestRepository, itemRepository,
+                bookingRepository, commentRepository, itemBookingSummaryRepository, itemChangeRepository,
+                bookingService);
+    }
+
+    @Override
+    void checkUsesIndexes(String sql, List<Object> parameters) {
+        String plan = String.join("\n", getJdbcTemplate().queryForList("EXPLAIN " + sql, String.class,
+                parameters.toArray()));
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Override
+    void checkIndexExists(String tableName, String indexName) {
+        assertEquals(1, getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES " +
+                "WHERE TABLE_NAME = ? AND INDEX_NAME = ?", Integer.class, tableName, indexName), indexName);
+    }
+
+    @Test
+    @Override
+    void shouldHaveIndexesForHotQueries() {
+        super.shouldHaveIndexesForHotQueries();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanBookingsWhenGetBookingsByStateAndBookerIdOrOwnerId() {
+        super.shouldNotScanBookingsWhenGetBookingsByStateAndBookerIdOrOwnerId();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanBookingsWhenFindApprovedBookingsOfItems() {
+        super.shouldNotScanBookingsWhenFindApprovedBookingsOfItems();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanItemsAndCommentsWhenGetAllItemsByOwnerIdOrRequestIds() {
+        super.shouldNotScanItemsAndCommentsWhenGetAllItemsByOwnerIdOrRequestIds();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanItemRequestsWhenGetItemRequests() {
+        super.shouldNotScanItemRequestsWhenGetItemRequests();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanSummariesAndChangesWhenSynchronize() {
+        super.shouldNotScanSummariesAndChangesWhenSynchronize();
+    }
+}
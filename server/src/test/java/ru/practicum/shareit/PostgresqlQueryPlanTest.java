@@ -0,0 +1,169 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemChangeRepository;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.item.ItemSearchEngine;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "postgresql", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.datasource.url=${postgresql.url:jdbc:postgresql://localhost:6541/shareit}",
+        "spring.datasource.username=${postgresql.username:shareit}",
+        "spring.datasource.password=${postgresql.password:shareit}",
+        "spring.sql.init.platform=postgresql",
+        "shareit.booking.partitioning.enabled=true",
+        "shareit.item-search.engine=database"
+})
+@Import(StatementRecorder.class)
+@Transactional
+class PostgresqlQueryPlanTest extends QueryPlanTest {
+    private final BookingRepository bookingRepository;
+    private final ItemRepositoryDbInterface itemRepository;
+    private final ItemSearchEngine itemSearchEngine;
+
+    @Autowired
+    PostgresqlQueryPlanTest(JdbcTemplate jdbcTemplate,
+                            StatementRecorder statementRecorder,
+                            UserRepositoryDbInterface userRepository,
+                            ItemRequestRepository itemRequestRepository,
+                            ItemRepositoryDbInterface itemRepository,
+                            BookingRepository bookingRepository,
+                            CommentRepository commentRepository,
+                            ItemBookingSummaryRepository itemBookingSummaryRepository,
+                            ItemChangeRepository itemChangeRepository,
+                            BookingService bookingService,
+                            ItemSearchEngine itemSearchEngine) {
+        super(jdbcTemplate, statementRecorder, userRepository, itemRequestRepository, itemRepository,
+                bookingRepository, commentRepository, itemBookingSummaryRepository, itemChangeRepository,
+                bookingService);
+        this.bookingRepository = bookingRepository;
+        this.itemRepository = itemRepository;
+        this.itemSearchEngine = itemSearchEngine;
+    }
+
+    @BeforeEach
+    void disableSequentialScans() {
+        getJdbcTemplate().execute("ANALYZE");
+        getJdbcTemplate().execute("SET LOCAL enable_seqscan = off");
+    }
+
+    String explain(String sql, List<Object> parameters) {
+        return String.join("\n", getJdbcTemplate().queryForList("EXPLAIN " + sql, String.class,
+                parameters.toArray()));
+    }
+
+    String explain(Runnable operation) {
+        return record(operation)
+                .stream()
+                .map(statement -> explain(statement.getSql(), statement.getParameters()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    void checkUsesIndexes(String sql, List<Object> parameters) {
+        String plan = explain(sql, parameters);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Override
+    void checkIndexExists(String tableName, String indexName) {
+        assertEquals(1, getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM PG_INDEXES " +
+                        "WHERE SCHEMANAME = CURRENT_SCHEMA() AND TABLENAME = ? AND INDEXNAME = ?", Integer.class,
+                tableName.toLowerCase(), indexName.toLowerCase()), indexName);
+    }
+
+    void checkUsesApprovedBookingIndex(List<String> approvedBookingIndexes, Runnable operation) {
+        String plan = explain(operation);
+        assertTrue(approvedBookingIndexes.stream().anyMatch(plan::contains), plan);
+    }
+
+    @Test
+    @Override
+    void shouldHaveIndexesForHotQueries() {
+        super.shouldHaveIndexesForHotQueries();
+        checkIndexExists("BOOKINGS", "BOOKINGS_APPROVED_ITEM_ID_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_APPROVED_ITEM_ID_END_DATE");
+        checkIndexExists("ITEMS", "ITEMS_ITEM_NAME_TRGM");
+        checkIndexExists("ITEMS", "ITEMS_DESCRIPTION_TRGM");
+    }
+
+    @Test
+    @Override
+    void shouldNotScanBookingsWhenGetBookingsByStateAndBookerIdOrOwnerId() {
+        super.shouldNotScanBookingsWhenGetBookingsByStateAndBookerIdOrOwnerId();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanBookingsWhenFindApprovedBookingsOfItems() {
+        super.shouldNotScanBookingsWhenFindApprovedBookingsOfItems();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanItemsAndCommentsWhenGetAllItemsByOwnerIdOrRequestIds() {
+        super.shouldNotScanItemsAndCommentsWhenGetAllItemsByOwnerIdOrRequestIds();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanItemRequestsWhenGetItemRequests() {
+        super.shouldNotScanItemRequestsWhenGetItemRequests();
+    }
+
+    @Test
+    @Override
+    void shouldNotScanSummariesAndChangesWhenSynchronize() {
+        super.shouldNotScanSummariesAndChangesWhenSynchronize();
+    }
+
+    @Test
+    void shouldUsePartialIndexesWhenFindApprovedBookingsOfItems() {
+        List<String> approvedBookingIndexes = getJdbcTemplate().queryForList("SELECT INDEXNAME FROM PG_INDEXES " +
+                "WHERE SCHEMANAME = CURRENT_SCHEMA() AND TABLENAME LIKE 'bookings%' " +
+                "AND INDEXDEF LIKE '%WHERE%APPROVED%' AND INDEXDEF NOT LIKE '%USING gist%'", String.class);
+        assertFalse(approvedBookingIndexes.isEmpty());
+        List<Long> itemIds = List.of(getItems().get(1).getId(), getItems().get(2).getId());
+        Long itemId = getItems().get(1).getId();
+        LocalDateTime now = getNow();
+
+        checkUsesApprovedBookingIndex(approvedBookingIndexes, () -> bookingRepository.findLastBookings(itemIds, now));
+        checkUsesApprovedBookingIndex(approvedBookingIndexes, () -> bookingRepository.findNextBookings(itemIds, now));
+        checkUsesApprovedBookingIndex(approvedBookingIndexes, () -> bookingRepository.findAllIntersectingBookings(
+                itemId, BookingStatus.APPROVED, now, now.plusDays(1), PageRequest.of(0, 1)));
+        checkUsesApprovedBookingIndex(approvedBookingIndexes, () -> itemRepository.findAllIdsFreeBetween(itemIds,
+                now, now.plusDays(1)));
+    }
+
+    @Test
+    void shouldUseTrigramIndexesWhenSearchItems() {
+        getJdbcTemplate().execute("SET LOCAL enable_indexscan = off");
+
+        String plan = explain(() -> itemSearchEngine.searchItems("item1", 0, 10));
+
+        assertTrue(plan.contains("items_item_name_trgm"), plan);
+        assertTrue(plan.contains("items_description_trgm"), plan);
+    }
+}
@@ -0,0 +1,194 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.StatementRecorder.RecordedStatement;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemChangeRepository;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.page.PageCursor;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+abstract class QueryPlanTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final StatementRecorder statementRecorder;
+    private final UserRepositoryDbInterface userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepositoryDbInterface itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final ItemBookingSummaryRepository itemBookingSummaryRepository;
+    private final ItemChangeRepository itemChangeRepository;
+    private final BookingService bookingService;
+
+    private final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private final List<User> users = new ArrayList<>();
+    private final List<ItemRequest> itemRequests = new ArrayList<>();
+    private final List<Item> items = new ArrayList<>();
+
+    QueryPlanTest(JdbcTemplate jdbcTemplate,
+                  StatementRecorder statementRecorder,
+                  UserRepositoryDbInterface userRepository,
+                  ItemRequestRepository itemRequestRepository,
+                  ItemRepositoryDbInterface itemRepository,
+                  BookingRepository bookingRepository,
+                  CommentRepository commentRepository,
+                  ItemBookingSummaryRepository itemBookingSummaryRepository,
+                  ItemChangeRepository itemChangeRepository,
+                  BookingService bookingService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statementRecorder = statementRecorder;
+        this.userRepository = userRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.itemRepository = itemRepository;
+        this.bookingRepository = bookingRepository;
+        this.commentRepository = commentRepository;
+        this.itemBookingSummaryRepository = itemBookingSummaryRepository;
+        this.itemChangeRepository = itemChangeRepository;
+        this.bookingService = bookingService;
+    }
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < 20; i++) {
+            users.add(userRepository.save(new User("user" + i, "plan" + i + "@mail.com")));
+        }
+        for (int i = 0; i < 50; i++) {
+            itemRequests.add(itemRequestRepository.save(new ItemRequest("request" + i, now.minusHours(i),
+                    users.get(i % users.size()))));
+        }
+        for (int i = 0; i < 100; i++) {
+            items.add(itemRepository.save(new Item("item" + i, "description" + i, true, users.get(i % users.size()),
+                    i % 2 == 0 ? itemRequests.get(i % itemRequests.size()) : null)));
+        }
+        BookingStatus[] statuses = BookingStatus.values();
+        for (int i = 0; i < 500; i++) {
+            Booking booking = new Booking(now.plusHours(i), now.plusHours(i + 1), users.get(i % users.size()),
+                    items.get(i % items.size()));
+            booking.setStatus(statuses[i % statuses.length]);
+            bookingRepository.save(booking);
+        }
+        for (int i = 0; i < 200; i++) {
+            commentRepository.save(new Comment(items.get(i % items.size()), "comment" + i, "author", now));
+        }
+        bookingRepository.flush();
+        commentRepository.flush();
+    }
+
+    abstract void checkUsesIndexes(String sql, List<Object> parameters);
+
+    abstract void checkIndexExists(String tableName, String indexName);
+
+    List<RecordedStatement> record(Runnable operation) {
+        List<RecordedStatement> statements;
+        statementRecorder.start();
+        try {
+            operation.run();
+        } finally {
+            statements = statementRecorder.stop();
+        }
+        assertFalse(statements.isEmpty());
+        return statements;
+    }
+
+    void checkUsesIndexes(Runnable operation) {
+        record(operation).forEach(statement -> checkUsesIndexes(statement.getSql(), statement.getParameters()));
+    }
+
+    JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    LocalDateTime getNow() {
+        return now;
+    }
+
+    List<Item> getItems() {
+        return items;
+    }
+
+    void shouldHaveIndexesForHotQueries() {
+        checkIndexExists("BOOKINGS", "BOOKINGS_BOOKER_ID_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_BOOKER_ID_STATUS_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_OWNER_ID_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_OWNER_ID_STATUS_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_ITEM_ID_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_ITEM_ID_STATUS_START_DATE");
+        checkIndexExists("BOOKINGS", "BOOKINGS_ITEM_ID_STATUS_END_DATE");
+        checkIndexExists("ITEMS", "ITEMS_OWNER_ID");
+        checkIndexExists("ITEMS", "ITEMS_ITEM_REQUEST_ID");
+        checkIndexExists("COMMENTS", "COMMENTS_ITEM_ID");
+        checkIndexExists("ITEM_REQUESTS", "ITEM_REQUESTS_CREATOR_ID_CREATED");
+        checkIndexExists("ITEM_REQUESTS", "ITEM_REQUESTS_CREATED");
+        checkIndexExists("ITEM_BOOKING_SUMMARIES", "ITEM_BOOKING_SUMMARIES_NEXT_START_DATE");
+        checkIndexExists("ITEM_CHANGES", "ITEM_CHANGES_CHANGED");
+    }
+
+    void shouldNotScanBookingsWhenGetBookingsByStateAndBookerIdOrOwnerId() {
+        Long userId = users.get(1).getId();
+        String cursor = new PageCursor(now.plusHours(200), Long.MAX_VALUE).encode();
+        for (BookingState state : BookingState.values()) {
+            checkUsesIndexes(() -> bookingService.getBookingsByStateAndBookerId(state, userId, 0, 10));
+            checkUsesIndexes(() -> bookingService.getBookingsByStateAndBookerIdAfter(state, userId, cursor, 10));
+            checkUsesIndexes(() -> bookingService.getBookingsByStateAndOwnerId(state, userId, 0, 10));
+            checkUsesIndexes(() -> bookingService.getBookingsByStateAndOwnerIdAfter(state, userId, cursor, 10));
+        }
+    }
+
+    void shouldNotScanBookingsWhenFindApprovedBookingsOfItems() {
+        List<Long> itemIds = List.of(items.get(1).getId(), items.get(2).getId(), items.get(3).getId());
+        Long itemId = items.get(1).getId();
+        checkUsesIndexes(() -> bookingRepository.findLastBookings(itemIds, now));
+        checkUsesIndexes(() -> bookingRepository.findNextBookings(itemIds, now));
+        checkUsesIndexes(() -> bookingRepository.findAllIntersectingBookings(itemId, BookingStatus.APPROVED,
+                now, now.plusDays(1), PageRequest.of(0, 1)));
+        checkUsesIndexes(() -> bookingRepository.findAllIntersectingBookingPeriods(itemId,
+                List.of(BookingStatus.APPROVED, BookingStatus.WAITING), now, now.plusDays(1)));
+        checkUsesIndexes(() -> itemRepository.findAllIdsFreeBetween(itemIds, now, now.plusDays(1)));
+    }
+
+    void shouldNotScanItemsAndCommentsWhenGetAllItemsByOwnerIdOrRequestIds() {
+        Long ownerId = users.get(1).getId();
+        checkUsesIndexes(() -> itemRepository.findAllByOwnerIdOrderById(ownerId, PageRequest.of(0, 10)));
+        checkUsesIndexes(() -> itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(ownerId,
+                items.get(10).getId(), PageRequest.of(0, 10)));
+        checkUsesIndexes(() -> itemRepository.findAllByItemRequestIdIn(List.of(itemRequests.get(1).getId(),
+                itemRequests.get(2).getId())));
+        checkUsesIndexes(() -> commentRepository.findAllByItemIdIn(List.of(items.get(1).getId(),
+                items.get(2).getId())));
+    }
+
+    void shouldNotScanItemRequestsWhenGetItemRequests() {
+        Long userId = users.get(1).getId();
+        checkUsesIndexes(() -> itemRequestRepository.findAllByCreatorIdOrderByCreatedDesc(userId));
+        checkUsesIndexes(() -> itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDescIdDesc(userId,
+                PageRequest.of(0, 10)));
+        checkUsesIndexes(() -> itemRequestRepository.findAllByCreatorIdNotBefore(userId, now,
+                itemRequests.get(10).getId(), PageRequest.of(0, 10)));
+    }
+
+    void shouldNotScanSummariesAndChangesWhenSynchronize() {
+        checkUsesIndexes(() -> itemBookingSummaryRepository.findAllByNextBookingStartLessThanEqualOrderByItemId(now,
+                PageRequest.of(0, 1000)));
+        checkUsesIndexes(() -> itemChangeRepository.findAllByIdGreaterThanOrderById(10L, PageRequest.of(0, 1000)));
+        checkUsesIndexes(() -> itemChangeRepository.findLastChangeIdChangedBefore(now));
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "postgresql", matches = "true")
+class SchemaUpgradeTest {
+    private static final String SCHEMA = "shareit_schema_upgrade_test";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createSchemaWithoutBookingOwners() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("postgresql.url", "jdbc:postgresql://localhost:6541/shareit"),
+                System.getProperty("postgresql.username", "shareit"),
+                System.getProperty("postgresql.password", "shareit"),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE USERS (USER_ID BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE ITEMS (ITEM_ID BIGINT PRIMARY KEY, " +
+                "OWNER_ID BIGINT NOT NULL REFERENCES USERS(USER_ID))");
+        jdbcTemplate.execute("CREATE TABLE BOOKINGS (BOOKING_ID BIGINT PRIMARY KEY, " +
+                "BOOKER_ID BIGINT NOT NULL REFERENCES USERS(USER_ID), " +
+                "ITEM_ID BIGINT NOT NULL REFERENCES ITEMS(ITEM_ID))");
+        jdbcTemplate.execute("INSERT INTO USERS VALUES (1), (2)");
+        jdbcTemplate.execute("INSERT INTO ITEMS VALUES (10, 1), (20, 2)");
+        jdbcTemplate.execute("INSERT INTO BOOKINGS VALUES (100, 2, 10), (200, 1, 20), (300, 2, 10)");
+    }
+
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    private void upgrade() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema-upgrade-postgresql.sql"));
+        }
+    }
+
+    private void checkBookingOwners() {
+        assertEquals(List.of(1L, 2L, 1L),
+                jdbcTemplate.queryForList("SELECT OWNER_ID FROM BOOKINGS ORDER BY BOOKING_ID", Long.class));
+        assertEquals("NO", jdbcTemplate.queryForObject("SELECT IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = 'bookings' AND COLUMN_NAME = 'owner_id'", String.class,
+                SCHEMA));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("INSERT INTO BOOKINGS VALUES (400, 1, 20, 999)"));
+    }
+
+    @Test
+    void shouldBackfillBookingOwnersAndAddForeignKeyOnlyOnce() throws SQLException {
+        upgrade();
+        checkBookingOwners();
+        List<String> rowVersions = jdbcTemplate.queryForList(
+                "SELECT XMIN::TEXT FROM BOOKINGS ORDER BY BOOKING_ID", String.class);
+
+        upgrade();
+
+        assertEquals(rowVersions, jdbcTemplate.queryForList(
+                "SELECT XMIN::TEXT FROM BOOKINGS ORDER BY BOOKING_ID", String.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PG_CONSTRAINT " +
+                "WHERE CONRELID = 'bookings'::REGCLASS AND CONTYPE = 'f' AND CONNAME = 'bookings_owners'",
+                Integer.class));
+    }
+
+    @Test
+    void shouldAddMissingForeignKeyWhenBookingOwnersHaveAlreadyBeenBackfilled() throws SQLException {
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS ADD COLUMN OWNER_ID BIGINT");
+        jdbcTemplate.execute("UPDATE BOOKINGS SET OWNER_ID = ITEMS.OWNER_ID FROM ITEMS " +
+                "WHERE ITEMS.ITEM_ID = BOOKINGS.ITEM_ID");
+        jdbcTemplate.execute("ALTER TABLE BOOKINGS ALTER COLUMN OWNER_ID SET NOT NULL");
+
+        upgrade();
+
+        checkBookingOwners();
+    }
+
+    @Test
+    void shouldSkipUpgradeWhenBookingsDoNotExistYet() throws SQLException {
+        jdbcTemplate.execute("DROP TABLE BOOKINGS");
+
+        upgrade();
+
+        assertNull(jdbcTemplate.queryForObject("SELECT TO_REGCLASS('bookings')", String.class));
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit;
+
+import lombok.Data;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class StatementRecorder implements BeanPostProcessor {
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    public void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    public List<RecordedStatement> stop() {
+        recording = false;
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(bean, method, args);
+                return method.getName().equals("getConnection") ? recordingConnection((Connection) result) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection recordingConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return method.getName().equals("prepareStatement") ?
+                    recordingStatement((PreparedStatement) result, (String) args[0]) : result;
+        });
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length > 1 &&
+                    args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+            } else if (method.getName().equals("clearParameters")) {
+                parameters.clear();
+            } else if (method.getName().equals("executeQuery") && recording) {
+                statements.add(new RecordedStatement(sql, new ArrayList<>(parameters.values())));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler invocationHandler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @Data
+    public static class RecordedStatement {
+        private final String sql;
+        private final List<Object> parameters;
+    }
+}
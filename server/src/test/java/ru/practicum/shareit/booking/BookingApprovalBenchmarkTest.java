@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.SentBookingDto;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookingApprovalBenchmarkTest {
+    private static final int THREADS = 8;
+    private static final long DURATION_MILLIS = 5_000;
+
+    private final ItemService itemService;
+    private final UserService userService;
+    private final BookingService bookingService;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private final AtomicLong nextHour = new AtomicLong();
+
+    @Autowired
+    BookingApprovalBenchmarkTest(ItemService itemService, UserService userService, BookingService bookingService) {
+        this.itemService = itemService;
+        this.userService = userService;
+        this.bookingService = bookingService;
+    }
+
+    @Test
+    void approvalThroughput() throws Exception {
+        UserDto owner = userService.createUser(new UserDto("owner", "benchmarkOwner@mail.com"));
+        UserDto booker = userService.createUser(new UserDto("booker", "benchmarkBooker@mail.com"));
+        List<ItemDto> items = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            items.add(itemService.createItem(new ItemDto("item" + i, "descr" + i, true, null, null, null),
+                    owner.getId()));
+        }
+
+        long sameItemApprovals = measureThroughput(owner, booker, thread -> items.get(0));
+        long distinctItemApprovals = measureThroughput(owner, booker, items::get);
+        log.info("Booking create and approve throughput with {} threads: same item = {} ops/s, " +
+                        "distinct items = {} ops/s",
+                THREADS,
+                sameItemApprovals * 1000 / DURATION_MILLIS,
+                distinctItemApprovals * 1000 / DURATION_MILLIS);
+        assertTrue(sameItemApprovals > 0);
+        assertTrue(distinctItemApprovals > 0);
+    }
+
+    private long measureThroughput(UserDto owner, UserDto booker, ItemSelector itemSelector) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            ItemDto item = itemSelector.select(thread);
+            results.add(executor.submit(() -> {
+                long operations = 0;
+                start.await();
+                while (running.get()) {
+                    long hour = nextHour.getAndAdd(2);
+                    SentBookingDto booking = bookingService.createBooking(item.getId(), booker.getId(),
+                            List.of(now.plusHours(hour + 1), now.plusHours(hour + 2)));
+                    bookingService.updateBookingStatus(booking.getId(), owner.getId(), true);
+                    operations++;
+                }
+                return operations;
+            }));
+        }
+        start.countDown();
+        Thread.sleep(DURATION_MILLIS);
+        running.set(false);
+        long result = 0;
+        for (Future<Long> threadResult : results) {
+            result += threadResult.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        return result;
+    }
+
+    private interface ItemSelector {
+        ItemDto select(int thread);
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookingHistoryBenchmarkTest {
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int ITEMS = 10;
+    private static final int FUTURE_BOOKINGS = 20;
+    private static final int QUERIES = 200;
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final ItemRepositoryDbInterface itemRepository;
+    private final UserRepositoryDbInterface userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Integer> historyCounts;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    BookingHistoryBenchmarkTest(BookingService bookingService,
+                                BookingRepository bookingRepository,
+                                ItemRepositoryDbInterface itemRepository,
+                                UserRepositoryDbInterface userRepository,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${benchmark.booking-history-counts:10000,100000,1000000}")
+                                List<Integer> historyCounts) {
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyCounts = historyCounts;
+    }
+
+    @AfterEach
+    void clearRepositories() {
+        bookingRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void hotQueriesWithGrowingHistory() {
+        User owner = userRepository.save(new User("owner", "historyOwner@mail.com"));
+        User booker = userRepository.save(new User("booker", "historyBooker@mail.com"));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(itemRepository.save(new Item("item" + i, "description" + i, true, owner, null)));
+        }
+        List<Object[]> futureBookings = new ArrayList<>();
+        for (int i = 0; i < FUTURE_BOOKINGS; i++) {
+            futureBookings.add(new Object[]{now.plusDays(i + 1), now.plusDays(i + 1).plusHours(1), "WAITING",
+                    booker.getId(), items.get(i % ITEMS).getId(), owner.getId()});
+        }
+        insertBookings(futureBookings);
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        int insertedHistory = 0;
+        for (Integer historyCount : historyCounts) {
+            insertHistory(owner, booker, items, insertedHistory, historyCount);
+            insertedHistory = historyCount;
+
+            double bookerFutureMicros = measure(() -> bookingService.getBookingsByStateAndBookerId(
+                    BookingState.FUTURE, booker.getId(), 0, 10));
+            double ownerWaitingMicros = measure(() -> bookingService.getBookingsByStateAndOwnerId(
+                    BookingState.WAITING, owner.getId(), 0, 10));
+            double bookerAllMicros = measure(() -> bookingService.getBookingsByStateAndBookerId(
+                    BookingState.ALL, booker.getId(), 0, 10));
+            log.info("Booking queries on {} with {} bookings of history: booker future = {} us/query, " +
+                            "owner waiting = {} us/query, booker all = {} us/query",
+                    database,
+                    historyCount,
+                    String.format("%.1f", bookerFutureMicros),
+                    String.format("%.1f", ownerWaitingMicros),
+                    String.format("%.1f", bookerAllMicros));
+            assertEquals(10, bookingService.getBookingsByStateAndBookerId(
+                    BookingState.FUTURE, booker.getId(), 0, 10).size());
+        }
+    }
+
+    private void insertHistory(User owner, User booker, List<Item> items, int from, int till) {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = from; i < till; i++) {
+            LocalDateTime start = now.minusDays(30).minusHours(i);
+            batch.add(new Object[]{start, start.plusMinutes(30), i % 10 == 0 ? "REJECTED" : "APPROVED",
+                    booker.getId(), items.get(i % ITEMS).getId(), owner.getId()});
+            if (batch.size() == INSERT_BATCH_SIZE || i == till - 1) {
+                insertBookings(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void insertBookings(List<Object[]> bookings) {
+        jdbcTemplate.batchUpdate("INSERT INTO BOOKINGS (START_DATE, END_DATE, STATUS, BOOKER_ID, ITEM_ID, OWNER_ID) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", bookings);
+    }
+
+    private double measure(Runnable query) {
+        for (int i = 0; i < QUERIES / 10; i++) {
+            query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1000.0 / QUERIES;
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingPartitionManagerTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final YearMonth now = YearMonth.of(2030, 6);
+
+    BookingPartitionManager getBookingPartitionManager() {
+        return new BookingPartitionManager(jdbcTemplate, transactionManager, 2, 3);
+    }
+
+    void mockMonthlyPartitions(YearMonth... months) {
+        when(jdbcTemplate.queryForList(contains("PG_INHERITS"), eq(String.class))).thenReturn(List.of(months).stream()
+                .map(BookingPartitionManager::getPartitionName)
+                .collect(Collectors.toList()));
+    }
+
+    List<String> getExecutedStatements() {
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeast(0)).execute(statements.capture());
+        return statements.getAllValues();
+    }
+
+    @Test
+    void shouldCreateMissingPartitionsAhead() {
+        mockMonthlyPartitions(now.minusMonths(1), now, now.plusMonths(1));
+
+        getBookingPartitionManager().createPartitions(now);
+
+        List<String> statements = getExecutedStatements();
+        assertEquals(4, statements.size());
+        assertTrue(statements.get(0).startsWith("CREATE TABLE bookings_y2030m08 (LIKE BOOKINGS"));
+        assertTrue(statements.get(0).contains("START_DATE >= '2030-08-01 00:00:00'"));
+        assertTrue(statements.get(0).contains("START_DATE < '2030-09-01 00:00:00'"));
+        assertTrue(statements.get(1).startsWith("WITH MOVED AS (DELETE FROM bookings_default"));
+        assertEquals("ALTER TABLE BOOKINGS ATTACH PARTITION bookings_y2030m08 " +
+                "FOR VALUES FROM ('2030-08-01 00:00:00') TO ('2030-09-01 00:00:00')", statements.get(2));
+        assertTrue(statements.get(3).startsWith("INSERT INTO APPROVED_BOOKING_PERIODS"));
+        assertTrue(statements.get(3).endsWith("FROM bookings_y2030m08 WHERE STATUS = 'APPROVED'"));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldFillGapsWhenPartitionsAreBehind() {
+        mockMonthlyPartitions(now.minusMonths(2));
+
+        getBookingPartitionManager().createPartitions(now);
+
+        List<String> attachedPartitions = getExecutedStatements().stream()
+                .filter(statement -> statement.startsWith("ALTER TABLE BOOKINGS ATTACH PARTITION"))
+                .map(statement -> statement.split(" ")[5])
+                .collect(Collectors.toList());
+        assertEquals(List.of("bookings_y2030m05", "bookings_y2030m06", "bookings_y2030m07", "bookings_y2030m08"),
+                attachedPartitions);
+    }
+
+    @Test
+    void shouldArchiveOldestSettledPartitions() {
+        mockMonthlyPartitions(YearMonth.of(2030, 1), YearMonth.of(2030, 2), YearMonth.of(2030, 3), now);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(LocalDateTime.class)))
+                .thenReturn(false, true);
+
+        getBookingPartitionManager().archivePartitions(now);
+
+        assertEquals(List.of(
+                "ALTER TABLE BOOKINGS DETACH PARTITION bookings_archive",
+                "ALTER TABLE BOOKINGS DETACH PARTITION bookings_y2030m01",
+                "ALTER TABLE bookings_archive ATTACH PARTITION bookings_y2030m01 " +
+                        "FOR VALUES FROM ('2030-01-01 00:00:00') TO ('2030-02-01 00:00:00')",
+                "ALTER TABLE BOOKINGS ATTACH PARTITION bookings_archive " +
+                        "FOR VALUES FROM (MINVALUE) TO ('2030-02-01 00:00:00')"
+        ), getExecutedStatements());
+        verify(jdbcTemplate).queryForObject(contains("FROM bookings_y2030m02 WHERE END_DATE >= ?"),
+                eq(Boolean.class), eq(LocalDateTime.of(2030, 3, 1, 0, 0)));
+    }
+
+    @Test
+    void shouldNotArchivePartitionsWithinRetention() {
+        mockMonthlyPartitions(YearMonth.of(2030, 3), now);
+
+        getBookingPartitionManager().archivePartitions(now);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), any(LocalDateTime.class));
+    }
+}
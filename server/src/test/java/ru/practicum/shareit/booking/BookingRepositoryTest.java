@@ -5,11 +5,14 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.QBooking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingInfo;
 import ru.practicum.shareit.item.ItemRepositoryDbInterface;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserRepositoryDbInterface;
@@ -23,6 +26,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
 
 @DataJpaTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -33,6 +37,9 @@ class BookingRepositoryTest {
 
     private final ItemRepositoryDbInterface itemRepository;
 
+    @MockBean
+    private BookingPartitionManager bookingPartitionManager;
+
     private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
 
     User saveUser(String name, String email) {
@@ -54,7 +61,7 @@ class BookingRepositoryTest {
     }
 
     BooleanExpression byOwnerId(Long ownerId) {
-        return QBooking.booking.item.owner.id.eq(ownerId);
+        return QBooking.booking.ownerId.eq(ownerId);
     }
 
     BooleanExpression byWaiting() {
@@ -94,6 +101,7 @@ class BookingRepositoryTest {
         assertThat(booking.getId(), not(nullValue()));
 
         assertThat(savedBooking, is(booking));
+        assertThat(savedBooking.getOwnerId(), is(owner.getId()));
     }
 
     @Test
@@ -216,6 +224,83 @@ class BookingRepositoryTest {
 
     }
 
+    @Test
+    void shouldReturnListOfApprovedIntersectingBookingsWhenFindAllIntersectingBookings() {
+        User owner = saveUser("userName", "userEmail");
+        Item item = saveItem("firstItemName", "firstItemDescription", owner);
+        Item otherItem = saveItem("secondItemName", "secondItemDescription", owner);
+        User booker = saveUser("bookerName", "bookerEmail");
+        Booking pastBooking = saveBooking(now.minusHours(4), now.minusHours(3), booker, item,
+                BookingStatus.APPROVED);
+        Booking firstBooking = saveBooking(now.plusHours(1), now.plusHours(2), booker, item,
+                BookingStatus.APPROVED);
+        Booking secondBooking = saveBooking(now.plusHours(3), now.plusHours(4), booker, item,
+                BookingStatus.APPROVED);
+        saveBooking(now.plusHours(5), now.plusHours(6), booker, item, BookingStatus.WAITING);
+        saveBooking(now.plusHours(5), now.plusHours(6), booker, otherItem, BookingStatus.APPROVED);
+        PageRequest page = PageRequest.of(0, 10);
+
+        List<Booking> foundBookings = bookingRepository.findAllIntersectingBookings(item.getId(),
+                BookingStatus.APPROVED, now, now.plusHours(10), page);
+        assertThat(foundBookings, hasSize(2));
+        assertThat(foundBookings.get(0), is(firstBooking));
+        assertThat(foundBookings.get(1), is(secondBooking));
+
+        foundBookings = bookingRepository.findAllIntersectingBookings(item.getId(),
+                BookingStatus.APPROVED, now.plusHours(2), now.plusHours(3), page);
+        assertThat(foundBookings, hasSize(2));
+
+        foundBookings = bookingRepository.findAllIntersectingBookings(item.getId(),
+                BookingStatus.APPROVED, now.minusHours(5), now.minusHours(4), page);
+        assertThat(foundBookings, hasSize(1));
+        assertThat(foundBookings.get(0), is(pastBooking));
+
+        foundBookings = bookingRepository.findAllIntersectingBookings(item.getId(),
+                BookingStatus.APPROVED, now.plusMinutes(121), now.plusMinutes(179), page);
+        assertThat(foundBookings, hasSize(0));
+
+        foundBookings = bookingRepository.findAllIntersectingBookings(item.getId(),
+                BookingStatus.APPROVED, now.plusHours(5), now.plusHours(6), page);
+        assertThat(foundBookings, hasSize(0));
+
+        foundBookings = bookingRepository.findAllIntersectingBookings(item.getId(),
+                BookingStatus.WAITING, now.plusHours(5), now.plusHours(6), page);
+        assertThat(foundBookings, hasSize(1));
+    }
+
+    @Test
+    void shouldReturnLastAndNextApprovedBookingPerItemWhenFindLastBookingsAndFindNextBookings() {
+        User owner = saveUser("ownerName", "ownerEmail");
+        Item item = saveItem("itemName", "itemDescription", owner);
+        Item otherItem = saveItem("otherItemName", "otherItemDescription", owner);
+        Item itemWithoutBookings = saveItem("thirdItemName", "thirdItemDescription", owner);
+        User booker = saveUser("bookerName", "bookerEmail");
+        saveBooking(now.minusDays(3), now.minusDays(2), booker, item, BookingStatus.APPROVED);
+        Booking lastBooking = saveBooking(now.minusHours(2), now.minusHours(1), booker, item,
+                BookingStatus.APPROVED);
+        saveBooking(now.minusHours(1), now.minusMinutes(30), booker, item, BookingStatus.REJECTED);
+        saveBooking(now.plusHours(1), now.plusHours(2), booker, item, BookingStatus.WAITING);
+        Booking nextBooking = saveBooking(now.plusHours(3), now.plusHours(4), booker, item,
+                BookingStatus.APPROVED);
+        saveBooking(now.plusDays(2), now.plusDays(3), booker, item, BookingStatus.APPROVED);
+        Booking otherLastBooking = saveBooking(now.minusDays(1), now.plusDays(1), booker, otherItem,
+                BookingStatus.APPROVED);
+        List<Long> itemIds = List.of(item.getId(), otherItem.getId(), itemWithoutBookings.getId());
+
+        List<ItemBookingInfo> foundBookings = bookingRepository.findLastBookings(itemIds, now);
+        assertThat(foundBookings, containsInAnyOrder(
+                new ItemBookingInfo(item.getId(), lastBooking.getId(), booker.getId(), lastBooking.getStart()),
+                new ItemBookingInfo(otherItem.getId(), otherLastBooking.getId(), booker.getId(),
+                        otherLastBooking.getStart())));
+
+        foundBookings = bookingRepository.findNextBookings(itemIds, now);
+        assertThat(foundBookings, contains(
+                new ItemBookingInfo(item.getId(), nextBooking.getId(), booker.getId(), nextBooking.getStart())));
+
+        foundBookings = bookingRepository.findNextBookings(List.of(otherItem.getId()), now);
+        assertThat(foundBookings, hasSize(0));
+    }
+
     @Test
     void shouldReturnListOfBookingsSortedByStartDescendingWhenFindAllWithDifferentFilters() {
         User owner = saveUser("ownerName", "ownerEmail");
@@ -293,4 +378,70 @@ class BookingRepositoryTest {
         foundBookings = bookingRepository.findAll(byBookerId(otherBooker.getId()).and(byCurrent()), page).getContent();
         assertThat(foundBookings, hasSize(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findSlice() {
+        User owner = saveUser("ownerName", "ownerEmail");
+        User booker = saveUser("bookerName", "bookerEmail");
+        Item item = saveItem("itemName", "itemDescription", owner);
+        Item otherItem = saveItem("otherItemName", "otherItemDescription", owner);
+
+        Booking firstBooking = saveBooking(now.plusDays(1), now.plusDays(2), booker, item, BookingStatus.APPROVED);
+        Booking secondBooking = saveBooking(now.plusDays(1), now.plusDays(2), booker, otherItem,
+                BookingStatus.WAITING);
+        Booking thirdBooking = saveBooking(now.minusDays(2), now.minusDays(1), booker, item, BookingStatus.APPROVED);
+
+        PageRequest page = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "start", "id"));
+        QBooking booking = QBooking.booking;
+
+        Slice<Booking> foundBookings = bookingRepository.findSlice(byBookerId(booker.getId()), page);
+        assertThat(foundBookings.getContent(), contains(secondBooking, firstBooking));
+        assertThat(foundBookings.hasNext(), is(true));
+
+        foundBookings = bookingRepository.findSlice(byBookerId(booker.getId())
+                .and(booking.start.lt(firstBooking.getStart())
+                        .or(booking.start.eq(firstBooking.getStart()).and(booking.id.lt(firstBooking.getId())))),
+                page);
+        assertThat(foundBookings.getContent(), contains(thirdBooking));
+        assertThat(foundBookings.hasNext(), is(false));
+
+        foundBookings = bookingRepository.findSlice(byBookerId(booker.getId())
+                .and(booking.start.lt(secondBooking.getStart())
+                        .or(booking.start.eq(secondBooking.getStart()).and(booking.id.lt(secondBooking.getId())))),
+                page);
+        assertThat(foundBookings.getContent(), contains(firstBooking, thirdBooking));
+        assertThat(foundBookings.hasNext(), is(false));
+    }
+
+    @Test
+    void findSliceAcrossArchiveHorizon() {
+        User owner = saveUser("ownerName", "ownerEmail");
+        User booker = saveUser("bookerName", "bookerEmail");
+        Item item = saveItem("itemName", "itemDescription", owner);
+        Booking firstBooking = saveBooking(now.plusDays(2), now.plusDays(3), booker, item, BookingStatus.WAITING);
+        Booking secondBooking = saveBooking(now.plusDays(1), now.plusDays(2), booker, item, BookingStatus.WAITING);
+        Booking thirdBooking = saveBooking(now.minusDays(1), now, booker, item, BookingStatus.APPROVED);
+        Booking fourthBooking = saveBooking(now.minusDays(2), now.minusDays(1), booker, item, BookingStatus.APPROVED);
+        Booking fifthBooking = saveBooking(now.minusDays(3), now.minusDays(2), booker, item, BookingStatus.APPROVED);
+        when(bookingPartitionManager.getArchiveHorizon()).thenReturn(now);
+        Sort sort = Sort.by(Sort.Direction.DESC, "start", "id");
+
+        Slice<Booking> foundBookings = bookingRepository.findSlice(byBookerId(booker.getId()),
+                PageRequest.of(0, 3, sort));
+        assertThat(foundBookings.getContent(), contains(firstBooking, secondBooking, thirdBooking));
+        assertThat(foundBookings.hasNext(), is(true));
+
+        foundBookings = bookingRepository.findSlice(byBookerId(booker.getId()), PageRequest.of(1, 3, sort));
+        assertThat(foundBookings.getContent(), contains(fourthBooking, fifthBooking));
+        assertThat(foundBookings.hasNext(), is(false));
+
+        foundBookings = bookingRepository.findSlice(byBookerId(booker.getId()), PageRequest.of(1, 2, sort));
+        assertThat(foundBookings.getContent(), contains(thirdBooking, fourthBooking));
+        assertThat(foundBookings.hasNext(), is(true));
+
+        foundBookings = bookingRepository.findSlice(byBookerId(booker.getId()),
+                PageRequest.of(0, 4, Sort.by(Sort.Direction.ASC, "start", "id")));
+        assertThat(foundBookings.getContent(), contains(fifthBooking, fourthBooking, thirdBooking, secondBooking));
+        assertThat(foundBookings.hasNext(), is(true));
+    }
+}
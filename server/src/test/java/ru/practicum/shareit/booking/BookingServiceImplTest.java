@@ -9,18 +9,26 @@ import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.exception.BookingDatesIntersectWithAlreadyExistingBookingException;
 import ru.practicum.shareit.exception.CanNotUpdateBookingStatusException;
+import ru.practicum.shareit.exception.InvalidCursorException;
 import ru.practicum.shareit.exception.NotAvailableItemException;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.page.PageCursor;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -187,6 +195,38 @@ class BookingServiceImplTest {
         assertTrue(foundBookingsByPage.isEmpty());
     }
 
+    @Test
+    void shouldReturnBookingsAfterCursorWhenGetBookingsByStateAndBookerIdAfterAndOwnerIdAfter() {
+        List<UserDto> users = setUsers();
+        ItemDto item1 = setItem("name1", "descr1", true, users.get(0).getId());
+        ItemDto item2 = setItem("name2", "descr2", true, users.get(0).getId());
+        SentBookingDto booking1 = setBooking(item1.getId(), users.get(1).getId(),
+                List.of(now.plusDays(1), now.plusDays(2)));
+        SentBookingDto booking2 = setBooking(item2.getId(), users.get(1).getId(),
+                List.of(now.plusDays(1), now.plusDays(2)));
+        SentBookingDto booking3 = setBooking(item1.getId(), users.get(1).getId(),
+                List.of(now.plusHours(1), now.plusHours(2)));
+
+        List<SentBookingDto> foundBookings = bookingService.getBookingsByStateAndBookerIdAfter(BookingState.ALL,
+                users.get(1).getId(), PageCursor.of(booking2.getStart(), booking2.getId()).encode(), 10);
+        assertEquals(List.of(booking1.getId(), booking3.getId()),
+                foundBookings.stream().map(SentBookingDto::getId).collect(Collectors.toList()));
+
+        foundBookings = bookingService.getBookingsByStateAndOwnerIdAfter(BookingState.FUTURE,
+                users.get(0).getId(), PageCursor.of(booking1.getStart(), booking1.getId()).encode(), 10);
+        assertEquals(List.of(booking3.getId()),
+                foundBookings.stream().map(SentBookingDto::getId).collect(Collectors.toList()));
+
+        foundBookings = bookingService.getBookingsByStateAndOwnerIdAfter(BookingState.ALL,
+                users.get(0).getId(), PageCursor.of(booking3.getStart(), booking3.getId()).encode(), 10);
+        assertTrue(foundBookings.isEmpty());
+
+        InvalidCursorException invalidCursorException = assertThrows(InvalidCursorException.class,
+                () -> bookingService.getBookingsByStateAndBookerIdAfter(BookingState.ALL, users.get(1).getId(),
+                        "not a cursor", 10));
+        assertEquals("Cursor not a cursor is invalid", invalidCursorException.getMessage());
+    }
+
     @Test
     void shouldReturnListOfBookingsSortedByStartDescendingWhenGetBookingsByStateAndOwnerIdWithDifferentParams() {
         List<UserDto> users = setUsers();
@@ -443,6 +483,75 @@ class BookingServiceImplTest {
         assertEquals("Can not update status of already approved booking", canNotUpdateBookingStatusException.getMessage());
     }
 
+    @Test
+    void shouldThrowBookingDatesIntersectWithAlreadyExistingBookingExceptionWhenUpdateBookingStatusWithIntersectingBooking() {
+        List<UserDto> users = setUsers();
+        ItemDto item = setItem("name1", "descr1", true, users.get(0).getId());
+        SentBookingDto booking1 = bookingService.createBooking(item.getId(), users.get(1).getId(),
+                List.of(now.plusDays(1), now.plusDays(3)));
+        SentBookingDto booking2 = bookingService.createBooking(item.getId(), users.get(2).getId(),
+                List.of(now.plusDays(2), now.plusDays(4)));
+
+        bookingService.updateBookingStatus(booking1.getId(), users.get(0).getId(), true);
+        BookingDatesIntersectWithAlreadyExistingBookingException intersectingDatesException = assertThrows(
+                BookingDatesIntersectWithAlreadyExistingBookingException.class,
+                () -> bookingService.updateBookingStatus(booking2.getId(), users.get(0).getId(), true)
+        );
+        assertEquals("Item with id = " + item.getId() + " is already booked from " +
+                now.plusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + ", till " +
+                now.plusDays(3).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                intersectingDatesException.getMessage());
+
+        SentBookingDto rejectedBooking2 = bookingService.updateBookingStatus(booking2.getId(),
+                users.get(0).getId(), false);
+        assertEquals(BookingStatus.REJECTED, rejectedBooking2.getStatus());
+    }
+
+    @Test
+    void shouldApproveOnlyOneOfIntersectingBookingsWhenUpdateBookingStatusConcurrently() throws Exception {
+        int threads = 64;
+        List<UserDto> users = setUsers();
+        ItemDto item = setItem("name1", "descr1", true, users.get(0).getId());
+        List<SentBookingDto> bookings = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            bookings.add(bookingService.createBooking(item.getId(), users.get(1 + i % 2).getId(),
+                    List.of(now.plusDays(1).plusMinutes(i), now.plusDays(2).plusMinutes(i))));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        int approved = 0;
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (SentBookingDto booking : bookings) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.updateBookingStatus(booking.getId(), users.get(0).getId(), true);
+                        return true;
+                    } catch (BookingDatesIntersectWithAlreadyExistingBookingException exception) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                if (result.get(1, TimeUnit.MINUTES)) {
+                    approved++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        assertEquals(1, approved);
+        assertEquals(1, bookingService.getBookingsByStateAndOwnerId(BookingState.ALL, users.get(0).getId(), 0,
+                        threads).stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED)
+                .count());
+    }
+
     @Test
     void shouldThrowCanNotUpdateBookingStatusExceptionWhenUpdateBookingStatusWithTryingToUpdateAlreadyApprovedBooking() {
         LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemBookingLocksTest {
+    private final ItemBookingLocks itemBookingLocks = new ItemBookingLocks(4);
+
+    @Test
+    void shouldLockStripesInOrderSoOppositeItemOrdersDoNotDeadlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> forward = executor.submit(() -> lockRepeatedly(List.of(1L, 2L, 3L), start));
+            Future<?> backward = executor.submit(() -> lockRepeatedly(List.of(3L, 2L, 1L), start));
+            start.countDown();
+
+            forward.get(10, TimeUnit.SECONDS);
+            backward.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldHoldAllStripesUntilTransactionCompletes() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch acquired = new CountDownLatch(1);
+        try {
+            inTransaction(() -> {
+                itemBookingLocks.lockUntilTransactionCompletion(List.of(1L, 5L, 9L, 2L));
+                executor.submit(() -> inTransaction(() -> {
+                    itemBookingLocks.lockUntilTransactionCompletion(5L);
+                    acquired.countDown();
+                }));
+                assertFalse(await(acquired, 200));
+            });
+
+            assertTrue(await(acquired, 10_000));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectNullItemIdAndLockingOutsideTransaction() {
+        NullPointerException nullPointerException = assertThrows(NullPointerException.class,
+                () -> itemBookingLocks.lockUntilTransactionCompletion((Long) null));
+        assertEquals("Item id must not be null", nullPointerException.getMessage());
+
+        IllegalStateException illegalStateException = assertThrows(IllegalStateException.class,
+                () -> itemBookingLocks.lockUntilTransactionCompletion(List.of(1L)));
+        assertEquals("Item can be locked for booking only inside transaction", illegalStateException.getMessage());
+    }
+
+    private void lockRepeatedly(List<Long> itemIds, CountDownLatch start) {
+        assertTrue(await(start, 10_000));
+        for (int i = 0; i < 10_000; i++) {
+            inTransaction(() -> itemBookingLocks.lockUntilTransactionCompletion(itemIds));
+        }
+    }
+
+    private static boolean await(CountDownLatch latch, long millis) {
+        try {
+            return latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static void inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+    }
+}
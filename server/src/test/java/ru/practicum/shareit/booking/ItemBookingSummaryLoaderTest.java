@@ -0,0 +1,41 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemBookingSummaryLoaderTest {
+    @Mock
+    private ItemBookingSummaryRepository itemBookingSummaryRepository;
+
+    @Mock
+    private ItemBookingSummaryManager itemBookingSummaryManager;
+
+    @Test
+    void shouldSkipItemsWhoseSummariesCannotBeBuiltAndLoadNextChunks() {
+        PageRequest page = PageRequest.of(0, 3);
+        when(itemBookingSummaryRepository.findAllItemIdsWithoutSummaryAfter(0L, page)).thenReturn(List.of(1L, 2L, 3L));
+        when(itemBookingSummaryRepository.findAllItemIdsWithoutSummaryAfter(3L, page)).thenReturn(List.of(4L));
+        when(itemBookingSummaryRepository.findAllItemIdsWithoutSummaryAfter(4L, page)).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("item has been deleted"))
+                .when(itemBookingSummaryManager).rebuild(argThat(itemIds -> itemIds.contains(2L)));
+
+        new ItemBookingSummaryLoader(itemBookingSummaryRepository, itemBookingSummaryManager, 3).run(null);
+
+        verify(itemBookingSummaryManager).rebuild(List.of(1L, 2L, 3L));
+        verify(itemBookingSummaryManager).rebuild(List.of(1L));
+        verify(itemBookingSummaryManager).rebuild(List.of(2L));
+        verify(itemBookingSummaryManager).rebuild(List.of(3L));
+        verify(itemBookingSummaryManager).rebuild(List.of(4L));
+        verifyNoMoreInteractions(itemBookingSummaryManager);
+    }
+}
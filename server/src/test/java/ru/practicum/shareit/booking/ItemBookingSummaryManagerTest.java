@@ -0,0 +1,147 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ItemBookingSummaryManagerTest {
+    private final ItemBookingSummaryManager itemBookingSummaryManager;
+    private final ItemBookingSummaryRepository itemBookingSummaryRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemRepositoryDbInterface itemRepository;
+    private final UserRepositoryDbInterface userRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    ItemBookingSummaryManagerTest(ItemBookingSummaryManager itemBookingSummaryManager,
+                                  ItemBookingSummaryRepository itemBookingSummaryRepository,
+                                  BookingRepository bookingRepository,
+                                  ItemRepositoryDbInterface itemRepository,
+                                  UserRepositoryDbInterface userRepository) {
+        this.itemBookingSummaryManager = itemBookingSummaryManager;
+        this.itemBookingSummaryRepository = itemBookingSummaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+    }
+
+    Booking saveBooking(LocalDateTime start, LocalDateTime end, User booker, Item item, BookingStatus status) {
+        Booking booking = new Booking(start, end, booker, item);
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+
+    void checkSummary(ItemBookingSummary summary, Booking lastBooking, Booking nextBooking) {
+        assertEquals(lastBooking == null ? null : lastBooking.getId(), summary.getLastBookingId());
+        assertEquals(lastBooking == null ? null : lastBooking.getBooker().getId(), summary.getLastBookerId());
+        assertEquals(lastBooking == null ? null : lastBooking.getStart(), summary.getLastBookingStart());
+        assertEquals(nextBooking == null ? null : nextBooking.getId(), summary.getNextBookingId());
+        assertEquals(nextBooking == null ? null : nextBooking.getBooker().getId(), summary.getNextBookerId());
+        assertEquals(nextBooking == null ? null : nextBooking.getStart(), summary.getNextBookingStart());
+    }
+
+    @Test
+    void shouldKeepSummaryOfItemBookingsUpToDate() {
+        User owner = userRepository.save(new User("owner", "owner@mail.com"));
+        User booker = userRepository.save(new User("booker", "booker@mail.com"));
+        Item item = itemRepository.save(new Item("item", "description", true, owner, null));
+        Booking pastBooking = saveBooking(now.minusDays(2), now.minusDays(1), booker, item, BookingStatus.APPROVED);
+        saveBooking(now.minusHours(2), now.minusHours(1), booker, item, BookingStatus.REJECTED);
+        Booking futureBooking = saveBooking(now.plusDays(3), now.plusDays(4), booker, item, BookingStatus.APPROVED);
+
+        itemBookingSummaryManager.rebuild(List.of(item.getId()));
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                pastBooking, futureBooking);
+
+        Booking waitingBooking = saveBooking(now.plusDays(1), now.plusDays(2), booker, item, BookingStatus.WAITING);
+        itemBookingSummaryManager.addBooking(waitingBooking);
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                pastBooking, futureBooking);
+
+        waitingBooking.setStatus(BookingStatus.APPROVED);
+        itemBookingSummaryManager.approveBooking(waitingBooking);
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                pastBooking, waitingBooking);
+
+        Booking currentBooking = saveBooking(now.minusHours(1), now.plusHours(1), booker, item,
+                BookingStatus.APPROVED);
+        itemBookingSummaryManager.addBooking(currentBooking);
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                currentBooking, waitingBooking);
+
+        itemBookingSummaryManager.rollForward(now.plusDays(1).plusHours(1));
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                waitingBooking, futureBooking);
+
+        itemBookingSummaryManager.rollForward(now.plusDays(5));
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                futureBooking, null);
+    }
+
+    @Test
+    void shouldRollForwardSummariesOfManyItemsInBatches() {
+        User owner = userRepository.save(new User("owner", "owner@mail.com"));
+        User booker = userRepository.save(new User("booker", "booker@mail.com"));
+        List<Item> items = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Item item = itemRepository.save(new Item("item" + i, "description", true, owner, null));
+            items.add(item);
+            bookings.add(saveBooking(now.plusDays(1), now.plusDays(2), booker, item, BookingStatus.APPROVED));
+        }
+        itemBookingSummaryManager.rebuild(items.stream().map(Item::getId).collect(Collectors.toList()));
+
+        itemBookingSummaryManager.rollForward(now.plusDays(1).plusHours(1));
+
+        for (int i = 0; i < items.size(); i++) {
+            checkSummary(itemBookingSummaryRepository.findById(items.get(i).getId()).orElseThrow(),
+                    bookings.get(i), null);
+        }
+    }
+
+    @Test
+    void shouldResolveOutdatedAndMissingSummariesWhenGetSummaries() {
+        User owner = userRepository.save(new User("owner", "owner@mail.com"));
+        User booker = userRepository.save(new User("booker", "booker@mail.com"));
+        Item item = itemRepository.save(new Item("item", "description", true, owner, null));
+        Item itemWithoutSummary = itemRepository.save(new Item("otherItem", "description", true, owner, null));
+        Item itemWithoutBookings = itemRepository.save(new Item("thirdItem", "description", true, owner, null));
+        Booking firstBooking = saveBooking(now.plusDays(1), now.plusDays(2), booker, item, BookingStatus.APPROVED);
+        Booking secondBooking = saveBooking(now.plusDays(3), now.plusDays(4), booker, item, BookingStatus.APPROVED);
+        Booking otherBooking = saveBooking(now.minusDays(1), now.plusDays(1), booker, itemWithoutSummary,
+                BookingStatus.APPROVED);
+        itemBookingSummaryManager.rebuild(List.of(item.getId()));
+        itemBookingSummaryManager.createSummary(itemWithoutBookings.getId());
+
+        Map<Long, ItemBookingSummary> summaries = itemBookingSummaryManager.getSummaries(
+                List.of(item.getId(), itemWithoutSummary.getId(), itemWithoutBookings.getId()), now);
+        checkSummary(summaries.get(item.getId()), null, firstBooking);
+        checkSummary(summaries.get(itemWithoutSummary.getId()), otherBooking, null);
+        checkSummary(summaries.get(itemWithoutBookings.getId()), null, null);
+
+        summaries = itemBookingSummaryManager.getSummaries(List.of(item.getId()), now.plusDays(2));
+        checkSummary(summaries.get(item.getId()), firstBooking, secondBooking);
+        checkSummary(itemBookingSummaryRepository.findById(item.getId()).orElseThrow(),
+                null, firstBooking);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+
+import java.util.List;
+
+@SpringBootTest(properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.datasource.url=${postgresql.url:jdbc:postgresql://localhost:6541/shareit}",
+        "spring.datasource.username=${postgresql.username:shareit}",
+        "spring.datasource.password=${postgresql.password:shareit}",
+        "spring.sql.init.platform=postgresql",
+        "shareit.booking.partitioning.enabled=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnabledIfSystemProperty(named = "postgresql", matches = "true")
+class PostgresqlBookingHistoryBenchmarkTest extends BookingHistoryBenchmarkTest {
+    @Autowired
+    PostgresqlBookingHistoryBenchmarkTest(BookingService bookingService,
+                                          BookingRepository bookingRepository,
+                                          ItemRepositoryDbInterface itemRepository,
+                                          UserRepositoryDbInterface userRepository,
+                                          JdbcTemplate jdbcTemplate,
+                                          @Value("${benchmark.booking-history-counts:10000,100000,1000000}")
+                                          List<Integer> historyCounts) {
+        super(bookingService, bookingRepository, itemRepository, userRepository, jdbcTemplate, historyCounts);
+    }
+}
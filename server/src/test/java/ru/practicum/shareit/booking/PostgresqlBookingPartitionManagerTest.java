@@ -0,0 +1,134 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "postgresql", matches = "true")
+class PostgresqlBookingPartitionManagerTest {
+    private static final String SCHEMA = "shareit_booking_partition_manager_test";
+
+    private final YearMonth now = YearMonth.now();
+    private final LocalDateTime oldStart = now.minusMonths(24).atDay(10).atStartOfDay();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private BookingPartitionManager bookingPartitionManager;
+
+    @BeforeEach
+    void createSchemaWithUnpartitionedBookings() throws SQLException {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("postgresql.url", "jdbc:postgresql://localhost:6541/shareit"),
+                System.getProperty("postgresql.username", "shareit"),
+                System.getProperty("postgresql.password", "shareit"),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA + ", public");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema-postgresql.sql"));
+        }
+        jdbcTemplate.execute("INSERT INTO USERS (USER_NAME, EMAIL) VALUES ('owner', 'owner@mail.com'), " +
+                "('booker', 'booker@mail.com')");
+        jdbcTemplate.execute("INSERT INTO ITEMS (ITEM_NAME, DESCRIPTION, AVAILABLE, OWNER_ID) " +
+                "SELECT 'item', 'description', TRUE, MIN(USER_ID) FROM USERS");
+        insertBooking(oldStart, oldStart.plusDays(1), "APPROVED");
+        insertBooking(now.atDay(1).atStartOfDay().plusDays(5), now.atDay(1).atStartOfDay().plusDays(6), "WAITING");
+        bookingPartitionManager = new BookingPartitionManager(jdbcTemplate,
+                new DataSourceTransactionManager(dataSource), 2, 3);
+    }
+
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    void insertBooking(LocalDateTime start, LocalDateTime end, String status) {
+        jdbcTemplate.update("INSERT INTO BOOKINGS (START_DATE, END_DATE, STATUS, BOOKER_ID, ITEM_ID, OWNER_ID) " +
+                "SELECT ?, ?, ?, MAX(USER_ID), (SELECT MIN(ITEM_ID) FROM ITEMS), MIN(USER_ID) FROM USERS",
+                start, end, status);
+    }
+
+    String getPartition(LocalDateTime start) {
+        return jdbcTemplate.queryForObject("SELECT TABLEOID::REGCLASS::TEXT FROM BOOKINGS WHERE START_DATE = ?",
+                String.class, start);
+    }
+
+    String getParent(String partition) {
+        return jdbcTemplate.queryForObject("SELECT INHPARENT::REGCLASS::TEXT FROM PG_INHERITS " +
+                "WHERE INHRELID = ?::REGCLASS", String.class, partition);
+    }
+
+    int countApprovedPeriods() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM APPROVED_BOOKING_PERIODS", Integer.class);
+    }
+
+    @Test
+    void shouldConvertBookingsAndArchiveSettledMonths() {
+        bookingPartitionManager.partition();
+
+        assertEquals("p", jdbcTemplate.queryForObject("SELECT RELKIND::TEXT FROM PG_CLASS " +
+                "WHERE OID = 'bookings'::REGCLASS", String.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BOOKINGS", Integer.class));
+        String oldPartition = getPartition(oldStart);
+        assertEquals(BookingPartitionManager.getPartitionName(YearMonth.from(oldStart)), oldPartition);
+        assertEquals(BookingPartitionManager.ARCHIVE_PARTITION, getParent(oldPartition));
+        assertEquals(now.minusMonths(3).atDay(1).atStartOfDay(), bookingPartitionManager.getArchiveHorizon());
+        assertEquals("bookings", getParent(BookingPartitionManager.getPartitionName(now.minusMonths(3))));
+        assertEquals("bookings", getParent(BookingPartitionManager.getPartitionName(now.plusMonths(2))));
+        assertEquals(1, countApprovedPeriods());
+    }
+
+    @Test
+    void shouldStoreBookingsOlderThanArchivedMonthsInArchiveDefaultPartition() {
+        bookingPartitionManager.partition();
+        LocalDateTime olderStart = oldStart.minusYears(5);
+
+        insertBooking(olderStart, olderStart.plusDays(1), "APPROVED");
+
+        assertEquals(BookingPartitionManager.ARCHIVE_DEFAULT_PARTITION, getPartition(olderStart));
+        assertEquals(BookingPartitionManager.ARCHIVE_PARTITION,
+                getParent(BookingPartitionManager.ARCHIVE_DEFAULT_PARTITION));
+        assertEquals(2, countApprovedPeriods());
+    }
+
+    @Test
+    void shouldKeepApprovedPeriodsWhenBookingsAreMovedToNewPartition() {
+        bookingPartitionManager.partition();
+        LocalDateTime futureStart = now.plusMonths(12).atDay(3).atStartOfDay();
+        insertBooking(futureStart, futureStart.plusDays(1), "APPROVED");
+        assertEquals(BookingPartitionManager.DEFAULT_PARTITION, getPartition(futureStart));
+
+        bookingPartitionManager.createPartitions(now.plusMonths(10));
+
+        assertEquals(BookingPartitionManager.getPartitionName(now.plusMonths(12)), getPartition(futureStart));
+        assertEquals(2, countApprovedPeriods());
+        assertThrows(DataIntegrityViolationException.class,
+                () -> insertBooking(futureStart.plusHours(12), futureStart.plusDays(2), "APPROVED"));
+    }
+
+    @Test
+    void shouldRejectApprovedBookingOverlappingArchivedBooking() {
+        bookingPartitionManager.partition();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> insertBooking(oldStart.minusHours(12), oldStart.plusHours(12), "APPROVED"));
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.ItemRepositoryDbInterface;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@EnabledIfSystemProperty(named = "postgresql", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.datasource.url=${postgresql.url:jdbc:postgresql://localhost:6541/shareit}",
+        "spring.datasource.username=${postgresql.username:shareit}",
+        "spring.datasource.password=${postgresql.password:shareit}",
+        "spring.sql.init.platform=postgresql",
+        "shareit.booking.partitioning.enabled=true"
+})
+@AutoConfigureMockMvc
+@Transactional
+class PostgresqlBookingPartitioningTest {
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+
+    private final MockMvc mvc;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepositoryDbInterface userRepository;
+    private final ItemRepositoryDbInterface itemRepository;
+
+    @SpyBean
+    private BookingRepository bookingRepository;
+
+    private final LocalDateTime monthBoundary = YearMonth.now().plusMonths(2).atDay(1).atStartOfDay();
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @Autowired
+    PostgresqlBookingPartitioningTest(MockMvc mvc,
+                                      JdbcTemplate jdbcTemplate,
+                                      UserRepositoryDbInterface userRepository,
+                                      ItemRepositoryDbInterface itemRepository) {
+        this.mvc = mvc;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.itemRepository = itemRepository;
+    }
+
+    @BeforeEach
+    void createItem() {
+        owner = userRepository.save(new User("owner", "partitioning-owner@mail.com"));
+        booker = userRepository.save(new User("booker", "partitioning-booker@mail.com"));
+        item = itemRepository.save(new Item("item", "description", true, owner, null));
+    }
+
+    Booking saveWaitingBooking(LocalDateTime start, LocalDateTime end) {
+        Booking booking = new Booking(start, end, booker, item);
+        booking.setStatus(BookingStatus.WAITING);
+        return bookingRepository.saveAndFlush(booking);
+    }
+
+    void insertApprovedBooking(LocalDateTime start, LocalDateTime end) {
+        jdbcTemplate.update("INSERT INTO BOOKINGS (START_DATE, END_DATE, STATUS, BOOKER_ID, ITEM_ID, OWNER_ID) " +
+                "VALUES (?, ?, 'APPROVED', ?, ?, ?)", start, end, booker.getId(), item.getId(), owner.getId());
+    }
+
+    @Test
+    void shouldReturnConflictWhenApproveBookingsOverlappingAcrossMonthBoundary() throws Exception {
+        Booking firstBooking = saveWaitingBooking(monthBoundary.minusDays(1), monthBoundary.plusDays(1));
+        Booking secondBooking = saveWaitingBooking(monthBoundary.plusHours(12), monthBoundary.plusDays(2));
+
+        mvc.perform(patch("/bookings/{id}", firstBooking.getId())
+                        .header(HEADER_USER_ID, owner.getId())
+                        .param("approved", "true"))
+                .andExpect(status().isOk());
+        mvc.perform(patch("/bookings/{id}", secondBooking.getId())
+                        .header(HEADER_USER_ID, owner.getId())
+                        .param("approved", "true"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReturnConflictFromDatabaseWhenOverlapAcrossMonthBoundaryIsMissedByService() throws Exception {
+        insertApprovedBooking(monthBoundary.minusDays(1), monthBoundary.plusDays(1));
+        Booking booking = saveWaitingBooking(monthBoundary.plusHours(12), monthBoundary.plusDays(2));
+        doReturn(List.of()).when(bookingRepository).findAllIntersectingBookings(any(), any(), any(), any(), any());
+
+        mvc.perform(patch("/bookings/{id}", booking.getId())
+                        .header(HEADER_USER_ID, owner.getId())
+                        .param("approved", "true"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldRejectApprovedBookingsOverlappingAcrossMonthBoundary() {
+        insertApprovedBooking(monthBoundary.minusDays(1), monthBoundary.plusDays(1));
+        insertApprovedBooking(monthBoundary.plusDays(1).plusSeconds(1), monthBoundary.plusDays(2));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> insertApprovedBooking(monthBoundary.plusHours(12), monthBoundary.plusDays(2)));
+    }
+}
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.BookingController;
 import ru.practicum.shareit.booking.BookingService;
@@ -70,6 +72,18 @@ class ErrorHandlerTest {
                 .andExpect(jsonPath("$.error", is("notAvailableItemException")));
     }
 
+    @Test
+    void shouldReturnBadRequestAndErrorWhenHandleBadRequestErrorWithCaughtInvalidCursorException() throws Exception {
+        when(itemRequestService.getAllItemRequestsByUserIdAfter(any(), any(), any()))
+                .thenThrow(new InvalidCursorException("invalidCursorException"));
+
+        mvc.perform(get("/requests/all?from=0&size=10&cursor=abc")
+                        .header(HEADER_USER_ID, 23)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(400))
+                .andExpect(jsonPath("$.error", is("invalidCursorException")));
+    }
+
     @Test
     void shouldReturnBadRequestAndErrorWhenHandleBadRequestErrorWithCaughtCanNotUpdateBookingStatusException() throws Exception {
         when(bookingService.updateBookingStatus(any(), any(), any()))
@@ -128,9 +142,38 @@ class ErrorHandlerTest {
                 .andExpect(jsonPath("$.error", is("bookingDatesIntersectWithAlreadyExistingBookingException")));
     }
 
+    @Test
+    void shouldReturnConflictAndErrorWhenHandlePuttingConflictingDataErrorWithCaughtObjectOptimisticLockingFailureException() throws Exception {
+        when(userService.updateUser(any(), any(), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException("User", 42L));
+
+        mvc.perform(patch("/users/42")
+                        .content("{\"name\":\"userName\"}")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(409));
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedAndErrorWhenHandlePreconditionFailedErrorWithCaughtPreconditionFailedException() throws Exception {
+        when(itemService.updateItem(any(), any(), any(), any()))
+                .thenThrow(new PreconditionFailedException("preconditionFailedException"));
+
+        mvc.perform(patch("/items/42")
+                        .content("{\"name\":\"itemName\"}")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HEADER_USER_ID, 23)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().is(412))
+                .andExpect(jsonPath("$.error", is("preconditionFailedException")));
+    }
+
     @Test
     void shouldReturnNotFoundAndErrorWhenHandleObjectNotFoundErrorWithCaughtObjectNotFoundException() throws Exception {
-        when(itemRequestService.getItemRequestById(any(), any()))
+        when(itemRequestService.getTaggedItemRequestById(any(), any()))
                 .thenThrow(new ObjectNotFoundException("objectNotFoundException"));
 
         mvc.perform(get("/requests/42")
@@ -193,7 +236,7 @@ class ErrorHandlerTest {
 
     @Test
     void shouldReturnInternalServerErrorAndErrorWhenHandleInternalServerErrorWithNullPointerException() throws Exception {
-        when(itemRequestService.getItemRequestById(any(), any()))
+        when(itemRequestService.getTaggedItemRequestById(any(), any()))
                 .thenThrow(new NullPointerException("nullPointerException"));
 
         mvc.perform(get("/requests/42")
@@ -0,0 +1,129 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jol.info.GraphLayout;
+import ru.practicum.shareit.item.model.CataloguedItem;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class CataloguedItemTest {
+    private static final int ITEMS = 10_000;
+    private static final int SCANS = 5_000;
+
+    @Test
+    void contains() {
+        CataloguedItem item = new CataloguedItem(new Item("Дрель Makita", "Работает от аккумулятора", true, null, null));
+
+        assertTrue(item.contains(CataloguedItem.encode("дрель")));
+        assertTrue(item.contains(CataloguedItem.encode("ДРЕЛЬ")));
+        assertTrue(item.contains(CataloguedItem.encode("makita")));
+        assertTrue(item.contains(CataloguedItem.encode("аккумулятора")));
+        assertTrue(item.contains(CataloguedItem.encode("")));
+        assertFalse(item.contains(CataloguedItem.encode("makitaработает")));
+        assertFalse(item.contains(CataloguedItem.encode("аккумулятор!")));
+        assertFalse(item.contains(CataloguedItem.encode("шуруповерт")));
+    }
+
+    @Test
+    void getGrams() {
+        CataloguedItem item = new CataloguedItem(new Item("abcd", "cdef", true, null, null));
+
+        assertEquals(Set.of(0x616263, 0x626364, 0x636465, 0x646566), item.getGrams());
+        assertEquals(Set.of(), new CataloguedItem(new Item("ab", "cd", true, null, null)).getGrams());
+    }
+
+    @Test
+    void footprint() {
+        Random random = new Random(42);
+        List<LowerCaseStringItem> lowerCaseStringItems = new ArrayList<>();
+        List<CataloguedItem> cataloguedItems = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item(randomText(random, 2), randomText(random, 8), true, null, null);
+            lowerCaseStringItems.add(new LowerCaseStringItem(item));
+            cataloguedItems.add(new CataloguedItem(item));
+        }
+
+        long lowerCaseStringBytes = GraphLayout.parseInstance(lowerCaseStringItems.toArray()).totalSize();
+        long cataloguedBytes = GraphLayout.parseInstance(cataloguedItems.toArray()).totalSize();
+        log.info("Catalogued item heap footprint: lower case strings = {} bytes/item, UTF-8 bytes = {} bytes/item",
+                lowerCaseStringBytes / ITEMS, cataloguedBytes / ITEMS);
+        assertTrue(cataloguedBytes < lowerCaseStringBytes);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void scanThroughput() {
+        Random random = new Random(42);
+        List<LowerCaseStringItem> lowerCaseStringItems = new ArrayList<>();
+        List<CataloguedItem> cataloguedItems = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item(randomText(random, 2), randomText(random, 8), true, null, null);
+            lowerCaseStringItems.add(new LowerCaseStringItem(item));
+            cataloguedItems.add(new CataloguedItem(item));
+        }
+        for (int i = 0; i < 100; i++) {
+            queries.add(randomText(random, 1));
+        }
+
+        long lowerCaseStringMatches = 0;
+        long cataloguedMatches = 0;
+        long lowerCaseStringNanos = 0;
+        long cataloguedNanos = 0;
+        for (int i = 0; i < SCANS; i++) {
+            String query = queries.get(i % queries.size());
+            long start = System.nanoTime();
+            for (LowerCaseStringItem item : lowerCaseStringItems) {
+                if (item.name.contains(query) || item.description.contains(query)) {
+                    lowerCaseStringMatches++;
+                }
+            }
+            lowerCaseStringNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            byte[] encodedQuery = CataloguedItem.encode(query);
+            for (CataloguedItem item : cataloguedItems) {
+                if (item.contains(encodedQuery)) {
+                    cataloguedMatches++;
+                }
+            }
+            cataloguedNanos += System.nanoTime() - start;
+        }
+        log.info("Catalogued item scan throughput over {} items: lower case strings = {} scans/s, UTF-8 bytes = {} scans/s",
+                ITEMS, SCANS * 1_000_000_000L / lowerCaseStringNanos, SCANS * 1_000_000_000L / cataloguedNanos);
+        assertEquals(lowerCaseStringMatches, cataloguedMatches);
+    }
+
+    private String randomText(Random random, int words) {
+        String alphabet = "abcdefghijklmnopqrstuvwxyzабвгдеёжзийклмнопрстуфхцчшщъыьэюя";
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                result.append(' ');
+            }
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                result.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+        }
+        return result.toString();
+    }
+
+    private static class LowerCaseStringItem {
+        private final String name;
+        private final String description;
+
+        LowerCaseStringItem(Item item) {
+            name = item.getName().toLowerCase();
+            description = item.getDescription().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ItemCatalogueBenchmarkTest {
+    private static final int ITEMS = 100_000;
+    private static final int THREADS = 8;
+    private static final long DURATION_MILLIS = 5_000;
+
+    @Test
+    void concurrentThroughput() throws Exception {
+        long synchronizedOperations = measureThroughput(new SynchronizedItemCatalogue());
+        long concurrentOperations = measureThroughput(new ItemCatalogue());
+        log.info("Item Catalogue throughput with {} threads (90% search, 10% put): " +
+                        "synchronized = {} ops/s, concurrent = {} ops/s",
+                THREADS,
+                synchronizedOperations * 1000 / DURATION_MILLIS,
+                concurrentOperations * 1000 / DURATION_MILLIS);
+        assertTrue(concurrentOperations > 0);
+    }
+
+    private long measureThroughput(ItemCatalogue itemCatalogue) throws Exception {
+        Random random = new Random(42);
+        for (long id = 1; id <= ITEMS; id++) {
+            itemCatalogue.put(createItem(id, random));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            long seed = thread;
+            results.add(executor.submit(() -> {
+                Random threadRandom = new Random(seed);
+                long operations = 0;
+                start.await();
+                while (running.get()) {
+                    if (threadRandom.nextInt(10) == 0) {
+                        itemCatalogue.put(createItem(1L + threadRandom.nextInt(ITEMS), threadRandom));
+                    } else {
+                        itemCatalogue.search(randomWord(threadRandom));
+                    }
+                    operations++;
+                }
+                return operations;
+            }));
+        }
+        start.countDown();
+        Thread.sleep(DURATION_MILLIS);
+        running.set(false);
+        long result = 0;
+        for (Future<Long> threadResult : results) {
+            result += threadResult.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        return result;
+    }
+
+    private Item createItem(Long id, Random random) {
+        Item result = new Item(randomWord(random) + " " + randomWord(random),
+                randomWord(random) + " " + randomWord(random) + " " + randomWord(random), true, null, null);
+        result.setId(id);
+        return result;
+    }
+
+    private String randomWord(Random random) {
+        StringBuilder result = new StringBuilder();
+        int length = 3 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            result.append((char) ('a' + random.nextInt(26)));
+        }
+        return result.toString();
+    }
+
+    private static class SynchronizedItemCatalogue extends ItemCatalogue {
+        @Override
+        public synchronized boolean put(Item item) {
+            return super.put(item);
+        }
+
+        @Override
+        public synchronized void remove(Long id) {
+            super.remove(id);
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+
+        @Override
+        public synchronized List<Long> search(String query) {
+            return super.search(query);
+        }
+    }
+}
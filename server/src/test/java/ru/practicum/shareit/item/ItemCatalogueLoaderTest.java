@@ -0,0 +1,233 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemChange;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class ItemCatalogueLoaderTest {
+    private final ItemCatalogue itemCatalogue;
+    private final ItemRepository itemRepository;
+    private final ItemRepositoryDbInterface itemRepositoryDbInterface;
+    private final ItemChangeRepository itemChangeRepository;
+    private final UserRepositoryDbInterface userRepositoryDbInterface;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ItemCatalogueLoaderTest(ItemCatalogue itemCatalogue,
+                            @Qualifier("itemRepositoryDbImpl") ItemRepository itemRepository,
+                            ItemRepositoryDbInterface itemRepositoryDbInterface,
+                            ItemChangeRepository itemChangeRepository,
+                            UserRepositoryDbInterface userRepositoryDbInterface,
+                            PlatformTransactionManager transactionManager) {
+        this.itemCatalogue = itemCatalogue;
+        this.itemRepository = itemRepository;
+        this.itemRepositoryDbInterface = itemRepositoryDbInterface;
+        this.itemChangeRepository = itemChangeRepository;
+        this.userRepositoryDbInterface = userRepositoryDbInterface;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void clearItemCatalogue() {
+        itemCatalogue.clear();
+    }
+
+    @Test
+    @Transactional
+    void run() {
+        itemRepositoryDbInterface.deleteAll();
+        User owner = userRepositoryDbInterface.save(new User("owner", "owner@mail.com"));
+        List<Item> items = itemRepositoryDbInterface.saveAll(List.of(
+                new Item("Screwdriver", "Works on batteries", true, owner, null),
+                new Item("Battery drill", "Works on batteries", true, owner, null),
+                new Item("RC toy car", "Batteries NOT INCLUDED", true, owner, null),
+                new Item("Hammer", "Very strong!", false, owner, null),
+                new Item("Skis", "New!", true, owner, null)
+        ));
+        Item ghost = new Item("Ghost", "Not in database", true, owner, null);
+        ghost.setId(Long.MAX_VALUE);
+        itemCatalogue.put(ghost);
+
+        new ItemCatalogueLoader(itemRepositoryDbInterface, itemChangeRepository, itemCatalogue,
+                new SimpleMeterRegistry(), 2).run(null);
+
+        assertEquals(4, itemCatalogue.size());
+        Set<Long> expectedIds = items.stream()
+                .filter(item -> item.getName().toLowerCase().contains("r") ||
+                        item.getDescription().toLowerCase().contains("r"))
+                .filter(Item::getAvailable)
+                .map(Item::getId)
+                .collect(Collectors.toSet());
+        assertEquals(expectedIds, new HashSet<>(itemCatalogue.search("r")));
+        assertTrue(itemCatalogue.search("ghost").isEmpty());
+        assertTrue(itemCatalogue.search("hammer").isEmpty());
+        assertEquals(List.of(items.get(4).getId()), itemCatalogue.search("skis"));
+    }
+
+    @Test
+    @Transactional
+    void synchronize() {
+        itemRepository.deleteAll();
+        User owner = userRepositoryDbInterface.save(new User("owner", "owner@mail.com"));
+        Item screwdriver = itemRepository.create(new Item("Screwdriver", "Works on batteries", true, owner, null));
+        ItemCatalogue otherNodeItemCatalogue = new ItemCatalogue();
+        ItemCatalogueLoader otherNodeItemCatalogueLoader = new ItemCatalogueLoader(itemRepositoryDbInterface,
+                itemChangeRepository, otherNodeItemCatalogue, new SimpleMeterRegistry(), 2);
+
+        otherNodeItemCatalogueLoader.synchronize();
+        assertEquals(0, otherNodeItemCatalogue.size());
+
+        otherNodeItemCatalogueLoader.run(null);
+        assertEquals(List.of(screwdriver.getId()), otherNodeItemCatalogue.search("screw"));
+
+        Item drill = itemRepository.create(new Item("Battery drill", "Works on batteries", true, owner, null));
+        Item hammer = itemRepository.create(new Item("Hammer", "Very strong!", false, owner, null));
+        Item skis = itemRepository.create(new Item("Skis", "New!", true, owner, null));
+        itemRepository.update(new Item(null, null, false, null, null), screwdriver.getId());
+        itemRepository.update(new Item("Hammer", "Works on batteries", true, null, null), hammer.getId());
+        itemRepository.deleteById(skis.getId());
+        assertEquals(List.of(screwdriver.getId()), otherNodeItemCatalogue.search("screw"));
+
+        otherNodeItemCatalogueLoader.synchronize();
+        assertEquals(2, otherNodeItemCatalogue.size());
+        assertEquals(List.of(drill.getId(), hammer.getId()), otherNodeItemCatalogue.search("batteries"));
+        assertTrue(otherNodeItemCatalogue.search("screw").isEmpty());
+        assertTrue(otherNodeItemCatalogue.search("skis").isEmpty());
+
+        itemRepository.deleteAllByOwnerId(owner.getId());
+        otherNodeItemCatalogueLoader.synchronize();
+        assertEquals(0, otherNodeItemCatalogue.size());
+    }
+
+    @Test
+    void synchronizeChangeWithLowerIdCommittedAfterLoad() throws Exception {
+        User owner = userRepositoryDbInterface.save(new User("lateOwner", "lateOwner@mail.com"));
+        CountDownLatch changeRecorded = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Item> lateItem = executor.submit(() -> transactionTemplate.execute(status -> {
+                Item item = itemRepository.create(new Item("Late drill", "Committed after load", true, owner, null));
+                changeRecorded.countDown();
+                await(loaded);
+                return item;
+            }));
+            assertTrue(changeRecorded.await(10, TimeUnit.SECONDS));
+            Item early = transactionTemplate.execute(status ->
+                    itemRepository.create(new Item("Early saw", "Committed before load", true, owner, null)));
+            ItemCatalogue otherNodeItemCatalogue = new ItemCatalogue();
+            ItemCatalogueLoader otherNodeItemCatalogueLoader = new ItemCatalogueLoader(itemRepositoryDbInterface,
+                    itemChangeRepository, otherNodeItemCatalogue, new SimpleMeterRegistry(), 2);
+
+            otherNodeItemCatalogueLoader.run(null);
+            assertEquals(List.of(early.getId()), otherNodeItemCatalogue.search("early"));
+            assertTrue(otherNodeItemCatalogue.search("late").isEmpty());
+
+            loaded.countDown();
+            Item late = lateItem.get(10, TimeUnit.SECONDS);
+            otherNodeItemCatalogueLoader.synchronize();
+            assertEquals(List.of(late.getId()), otherNodeItemCatalogue.search("late"));
+            assertEquals(List.of(early.getId()), otherNodeItemCatalogue.search("early"));
+        } finally {
+            loaded.countDown();
+            executor.shutdown();
+            transactionTemplate.executeWithoutResult(status -> itemRepository.deleteAllByOwnerId(owner.getId()));
+            userRepositoryDbInterface.deleteById(owner.getId());
+        }
+    }
+
+    @Test
+    void synchronizeTracksLargeChangeGapAsRanges() {
+        ItemRepositoryDbInterface mockedItemRepository = mock(ItemRepositoryDbInterface.class);
+        ItemChangeRepository mockedItemChangeRepository = mock(ItemChangeRepository.class);
+        LocalDateTime now = LocalDateTime.now();
+        ItemChange farChange = new ItemChange(1L, now);
+        farChange.setId(1_000_000_000L);
+        ItemChange lateChange = new ItemChange(2L, now);
+        lateChange.setId(500L);
+        User owner = new User("owner", "owner@mail.com");
+        Item lateItem = new Item("Late drill", "Committed after gap", true, owner, null);
+        lateItem.setId(2L);
+        when(mockedItemRepository.findAllByAvailableTrueAndIdGreaterThanOrderById(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of()));
+        when(mockedItemRepository.findAllById(Set.of(2L))).thenReturn(List.of(lateItem));
+        when(mockedItemChangeRepository.findLastChangeIdChangedBefore(any())).thenReturn(Optional.of(1L));
+        when(mockedItemChangeRepository.findAllByIdGreaterThanOrderById(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(farChange)))
+                .thenReturn(new SliceImpl<>(List.of()));
+        when(mockedItemChangeRepository.findAllByIdBetweenOrderById(2L, 999_999_999L))
+                .thenReturn(List.of(lateChange));
+        ItemCatalogue otherNodeItemCatalogue = new ItemCatalogue();
+        ItemCatalogueLoader otherNodeItemCatalogueLoader = new ItemCatalogueLoader(mockedItemRepository,
+                mockedItemChangeRepository, otherNodeItemCatalogue, new SimpleMeterRegistry(), 2);
+        otherNodeItemCatalogueLoader.run(null);
+
+        otherNodeItemCatalogueLoader.synchronize();
+        otherNodeItemCatalogueLoader.synchronize();
+        assertEquals(List.of(2L), otherNodeItemCatalogue.search("late"));
+
+        otherNodeItemCatalogueLoader.synchronize();
+        verify(mockedItemChangeRepository).findAllByIdBetweenOrderById(2L, 499L);
+        verify(mockedItemChangeRepository).findAllByIdBetweenOrderById(501L, 999_999_999L);
+    }
+
+    @Test
+    @Transactional
+    void pruneChangesKeepsLastSettledChange() {
+        itemChangeRepository.deleteAll();
+        LocalDateTime now = LocalDateTime.now();
+        itemChangeRepository.saveAll(List.of(
+                new ItemChange(1L, now.minusDays(3)),
+                new ItemChange(2L, now.minusDays(2)),
+                new ItemChange(3L, now)
+        ));
+        ItemCatalogueLoader itemCatalogueLoader = new ItemCatalogueLoader(itemRepositoryDbInterface,
+                itemChangeRepository, new ItemCatalogue(), new SimpleMeterRegistry(), 2);
+
+        itemCatalogueLoader.pruneChanges();
+
+        assertEquals(List.of(2L, 3L), itemChangeRepository.findAll().stream()
+                .map(ItemChange::getItemId)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
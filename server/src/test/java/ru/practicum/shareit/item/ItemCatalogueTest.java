@@ -0,0 +1,248 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCatalogueTest {
+    Item createItem(Long id, String name, String description, Boolean available) {
+        Item result = new Item(name, description, available, null, null);
+        result.setId(id);
+        return result;
+    }
+
+    @Test
+    void search() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        assertTrue(itemCatalogue.put(createItem(1L, "Screwdriver", "Works on batteries", true)));
+        assertTrue(itemCatalogue.put(createItem(2L, "Battery drill", "Works on batteries", true)));
+        assertTrue(itemCatalogue.put(createItem(3L, "RC toy car", "Batteries NOT INCLUDED", true)));
+        assertFalse(itemCatalogue.put(createItem(4L, "Screwdriver", "Works on batteries", false)));
+        assertEquals(3, itemCatalogue.size());
+
+        assertEquals(Set.of(1L), new HashSet<>(itemCatalogue.search("screw")));
+        assertEquals(Set.of(3L), new HashSet<>(itemCatalogue.search("included")));
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(itemCatalogue.search("batt")));
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(itemCatalogue.search("r")));
+        assertEquals(Set.of(2L), new HashSet<>(itemCatalogue.search("y dr")));
+        assertTrue(itemCatalogue.search("snowboard").isEmpty());
+        assertTrue(itemCatalogue.search("drillworks").isEmpty());
+    }
+
+    @Test
+    void searchWithLimit() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        for (long id = 10; id >= 1; id--) {
+            itemCatalogue.put(createItem(id, "Battery drill " + id, "Works on batteries", id % 3 != 0));
+        }
+
+        assertEquals(List.of(1L, 2L, 4L), itemCatalogue.search("batt", 3));
+        assertEquals(List.of(1L, 2L, 4L, 5L, 7L, 8L, 10L), itemCatalogue.search("batt", 100));
+        assertEquals(List.of(1L, 2L), itemCatalogue.search("d", 2));
+        assertEquals(List.of(10L), itemCatalogue.search("l 10", 2));
+        assertTrue(itemCatalogue.search("batt", 0).isEmpty());
+    }
+
+    @Test
+    void searchAfterId() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        for (long id = 10; id >= 1; id--) {
+            itemCatalogue.put(createItem(id, "Battery drill " + id, "Works on batteries", id % 3 != 0));
+        }
+
+        assertEquals(List.of(1L, 2L, 4L), itemCatalogue.search("batt", 0L, 3));
+        assertEquals(List.of(5L, 7L, 8L), itemCatalogue.search("batt", 4L, 3));
+        assertEquals(List.of(10L), itemCatalogue.search("batt", 8L, 3));
+        assertEquals(List.of(10L), itemCatalogue.search("l 1", 1L, 3));
+        assertTrue(itemCatalogue.search("batt", 10L, 3).isEmpty());
+        assertTrue(itemCatalogue.search("b", 10L, 3).isEmpty());
+    }
+
+    @Test
+    void searchWithoutLimitInsideTransaction() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        itemCatalogue.put(createItem(1L, "Battery drill", "Works on batteries", true));
+        itemCatalogue.put(createItem(3L, "Screwdriver", "Works on batteries", true));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemCatalogue.change(changes -> changes.put(createItem(2L, "Battery pack", "Spare battery", true)));
+
+            assertEquals(List.of(1L, 2L, 3L), itemCatalogue.search("batt"));
+            assertEquals(List.of(2L, 3L), itemCatalogue.search("batt", 1L, Integer.MAX_VALUE));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(0));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void suggest() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        itemCatalogue.put(createItem(1L, "Battery drill", "Works on batteries", true));
+        itemCatalogue.put(createItem(2L, "Drill-driver DRILL", "Works on batteries", true));
+        itemCatalogue.put(createItem(3L, "Drawing board", "A3", true));
+        itemCatalogue.put(createItem(4L, "Dryer", "Hair dryer", false));
+
+        assertEquals(List.of("drawing", "drill", "driver"), itemCatalogue.suggest("dr", 10));
+        assertEquals(List.of("drawing", "drill"), itemCatalogue.suggest("dr", 2));
+        assertEquals(List.of("battery", "board"), itemCatalogue.suggest("b", 10));
+        assertTrue(itemCatalogue.suggest("works", 10).isEmpty());
+        assertTrue(itemCatalogue.suggest("dry", 10).isEmpty());
+
+        itemCatalogue.remove(1L);
+        assertEquals(List.of("drawing", "drill", "driver"), itemCatalogue.suggest("dr", 10));
+        assertEquals(List.of("board"), itemCatalogue.suggest("b", 10));
+
+        itemCatalogue.put(createItem(2L, "Screwdriver", "Works on batteries", true));
+        assertEquals(List.of("drawing"), itemCatalogue.suggest("dr", 10));
+
+        itemCatalogue.put(createItem(3L, "Drawing board", "A3", false));
+        assertTrue(itemCatalogue.suggest("dr", 10).isEmpty());
+        assertEquals(List.of("screwdriver"), itemCatalogue.suggest("", 10));
+    }
+
+    @Test
+    void putAndRemove() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        itemCatalogue.put(createItem(1L, "Screwdriver", "Works on batteries", true));
+        itemCatalogue.put(createItem(2L, "Battery drill", "Works on batteries", true));
+
+        itemCatalogue.put(createItem(1L, "Hammer", "Very strong!", true));
+        assertTrue(itemCatalogue.search("screw").isEmpty());
+        assertEquals(List.of(1L), itemCatalogue.search("hammer"));
+        assertEquals(List.of(2L), itemCatalogue.search("batt"));
+
+        itemCatalogue.put(createItem(1L, "Hammer", "Very strong!", false));
+        assertTrue(itemCatalogue.search("hammer").isEmpty());
+        assertEquals(1, itemCatalogue.size());
+
+        itemCatalogue.remove(2L);
+        itemCatalogue.remove(3L);
+        assertTrue(itemCatalogue.search("batt").isEmpty());
+        assertEquals(0, itemCatalogue.size());
+
+        itemCatalogue.put(createItem(3L, "Skis", "New!", true));
+        itemCatalogue.clear();
+        assertTrue(itemCatalogue.search("skis").isEmpty());
+        assertEquals(0, itemCatalogue.size());
+    }
+
+    @Test
+    void searchMatchesSubstringScan() {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        Random random = new Random(42);
+        List<Item> items = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            Item item = createItem(id, randomText(random, 8), randomText(random, 40), random.nextInt(4) != 0);
+            items.add(item);
+            itemCatalogue.put(item);
+        }
+        for (int i = 0; i < 200; i++) {
+            String query = randomText(random, 1 + random.nextInt(5)).toLowerCase();
+            Set<Long> expected = new HashSet<>();
+            for (Item item : items) {
+                if (item.getAvailable() && (item.getName().toLowerCase().contains(query) ||
+                        item.getDescription().toLowerCase().contains(query))) {
+                    expected.add(item.getId());
+                }
+            }
+            assertEquals(expected, new HashSet<>(itemCatalogue.search(query)), query);
+        }
+    }
+
+    @Test
+    void concurrentPutRemoveAndSearch() throws Exception {
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        int writers = 4;
+        int readers = 4;
+        int idsPerWriter = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<Map<Long, Item>>> writerResults = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            long firstId = (long) writer * idsPerWriter + 1;
+            writerResults.add(executor.submit(() -> {
+                Random random = new Random(firstId);
+                Map<Long, Item> lastWrites = new HashMap<>();
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    long id = firstId + random.nextInt(idsPerWriter);
+                    if (random.nextInt(5) == 0) {
+                        itemCatalogue.remove(id);
+                        lastWrites.remove(id);
+                    } else {
+                        Item item = createItem(id, randomText(random, 8), randomText(random, 40), random.nextBoolean());
+                        itemCatalogue.put(item);
+                        lastWrites.put(id, item);
+                    }
+                }
+                return lastWrites;
+            }));
+        }
+        List<Future<Integer>> readerResults = new ArrayList<>();
+        for (int reader = 0; reader < readers; reader++) {
+            long seed = reader;
+            readerResults.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                int searches = 0;
+                start.await();
+                do {
+                    itemCatalogue.search(randomText(random, 1 + random.nextInt(5)).toLowerCase());
+                    searches++;
+                } while (writing.get());
+                return searches;
+            }));
+        }
+        start.countDown();
+        List<Item> items = new ArrayList<>();
+        for (Future<Map<Long, Item>> writerResult : writerResults) {
+            items.addAll(writerResult.get(1, TimeUnit.MINUTES).values());
+        }
+        writing.set(false);
+        for (Future<Integer> readerResult : readerResults) {
+            assertTrue(readerResult.get(1, TimeUnit.MINUTES) > 0);
+        }
+        executor.shutdown();
+
+        assertEquals(items.stream().filter(Item::getAvailable).count(), itemCatalogue.size());
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            String query = randomText(random, 1 + random.nextInt(5)).toLowerCase();
+            Set<Long> expected = new HashSet<>();
+            for (Item item : items) {
+                if (item.getAvailable() && (item.getName().toLowerCase().contains(query) ||
+                        item.getDescription().toLowerCase().contains(query))) {
+                    expected.add(item.getId());
+                }
+            }
+            assertEquals(expected, new HashSet<>(itemCatalogue.search(query)), query);
+        }
+    }
+
+    private String randomText(Random random, int length) {
+        String alphabet = "abcdeABCDEабвАБВ ";
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            result.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return result.toString();
+    }
+}
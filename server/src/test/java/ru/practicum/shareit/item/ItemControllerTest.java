@@ -6,20 +6,32 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingInfo;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreePeriodDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.page.PageCursor;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,6 +65,8 @@ class ItemControllerTest {
 
     private static final CommentDto comment = new CommentDto("text", "authorName", "2020-01-01T00:00:00");
 
+    private static final EntityTag entityTag = EntityTag.of(3L, 1L);
+
     private static final String HEADER_USER_ID = "X-Sharer-User-Id";
 
     static {
@@ -81,13 +95,14 @@ class ItemControllerTest {
 
     @Test
     void shouldReturnOkAndItemDtoWithCommentsWhenGetItemById() throws Exception {
-        when(itemService.getItemById(any(), any()))
-                .thenReturn(itemWithComment);
+        when(itemService.getTaggedItemById(any(), any()))
+                .thenReturn(new Tagged<>(entityTag, () -> itemWithComment));
 
         mvc.perform(get("/items/{id}", 17)
                         .header(HEADER_USER_ID, 23)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, entityTag.getValue()))
                 .andExpect(jsonPath("$.id", is(itemWithComment.getId()), Long.class))
                 .andExpect(jsonPath("$.name", is(itemWithComment.getName())))
                 .andExpect(jsonPath("$.description", is(itemWithComment.getDescription())))
@@ -101,6 +116,23 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.comments[0].created", is(itemWithComment.getComments().get(0).getCreated())));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenGetItemByIdWithMatchingETag() throws Exception {
+        when(itemService.getTaggedItemById(any(), any()))
+                .thenReturn(new Tagged<>(entityTag,
+                        () -> fail("Item DTO must not be built when it has not been modified")));
+
+        mvc.perform(get("/items/{id}", 17)
+                        .header(HEADER_USER_ID, 23)
+                        .header(HttpHeaders.IF_NONE_MATCH, entityTag.getValue())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, entityTag.getValue()))
+                .andExpect(content().string(""));
+
+        verify(itemService, times(1)).getTaggedItemById(any(), any());
+    }
+
     @Test
     void shouldReturnOkAndListOfItemDtosWithCommentsWhenGetAllItemsByOwnerId() throws Exception {
         when(itemService.getAllItemsByOwnerId(any(), any(), any()))
@@ -146,7 +178,7 @@ class ItemControllerTest {
 
     @Test
     void shouldReturnOkAndUpdatedItemDtoWhenUpdateItemById() throws Exception {
-        when(itemService.updateItem(any(), any(), any()))
+        when(itemService.updateItem(any(), any(), any(), any()))
                 .thenReturn(item);
 
         mvc.perform(patch("/items/{id}", 42)
@@ -166,6 +198,23 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.comments", is(empty())));
     }
 
+    @Test
+    void shouldPassIfMatchToServiceWhenUpdateItemById() throws Exception {
+        when(itemService.updateItem(any(), any(), any(), any()))
+                .thenReturn(item);
+
+        mvc.perform(patch("/items/{id}", 42)
+                        .content(mapper.writeValueAsString(item))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HEADER_USER_ID, 23)
+                        .header(HttpHeaders.IF_MATCH, entityTag.getValue())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(itemService).updateItem(any(), eq(42L), eq(23L), eq(entityTag.getValue()));
+    }
+
     @Test
     void shouldReturnOkDeletedItemDtoWhenDeleteItemById() throws Exception {
         when(itemService.deleteItemById(any(), any()))
@@ -208,6 +257,68 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].comments", is(empty())));
     }
 
+    @Test
+    void shouldReturnOkAndListOfItemDtosWhenSearchItemsFreeBetween() throws Exception {
+        when(itemService.searchItems("text", LocalDateTime.parse("2030-01-01T00:00:00"),
+                LocalDateTime.parse("2030-01-02T00:00:00"), 0, 10))
+                .thenReturn(List.of(item));
+
+        mvc.perform(get("/items/search?text={text}&start={start}&end={end}&from={from}&size={size}", "TEXT",
+                        "2030-01-01T00:00:00", "2030-01-02T00:00:00", 0, 10)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(item.getId()), Long.class))
+                .andExpect(jsonPath("$[0].name", is(item.getName())));
+    }
+
+    @Test
+    void shouldReturnOkListOfItemDtosAndNextCursorWhenSearchItemsWithCursor() throws Exception {
+        String cursor = PageCursor.of(1L).encode();
+        when(itemService.searchItemsAfter("text", cursor, 1))
+                .thenReturn(List.of(item));
+
+        mvc.perform(get("/items/search?text={text}&from={from}&size={size}&cursor={cursor}", "TEXT", 0, 1, cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.HEADER_NEXT_CURSOR, PageCursor.of(item.getId()).encode()))
+                .andExpect(jsonPath("$[0].id", is(item.getId()), Long.class));
+
+        when(itemService.searchItems("text", 0, 2))
+                .thenReturn(List.of(item));
+
+        mvc.perform(get("/items/search?text={text}&from={from}&size={size}", "TEXT", 0, 2)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PageCursor.HEADER_NEXT_CURSOR))
+                .andExpect(jsonPath("$[0].id", is(item.getId()), Long.class));
+    }
+
+    @Test
+    void shouldReturnOkAndListOfNamesWhenSuggestItemNames() throws Exception {
+        when(itemService.suggestItemNames("dr", 10))
+                .thenReturn(List.of("drill", "driver"));
+
+        mvc.perform(get("/items/suggest?prefix={prefix}&size={size}", "DR", 10)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", is(List.of("drill", "driver"))));
+    }
+
+    @Test
+    void shouldReturnOkAndListOfFreePeriodsWhenGetItemAvailability() throws Exception {
+        when(itemService.getItemAvailability(42L, 23L, LocalDateTime.parse("2030-01-01T00:00:00"),
+                LocalDateTime.parse("2030-02-01T00:00:00"), true))
+                .thenReturn(List.of(new FreePeriodDto("2030-01-01T00:00:00", "2030-01-10T12:00:00")));
+
+        mvc.perform(get("/items/{id}/availability?from={from}&to={to}&includeWaiting={includeWaiting}", 42,
+                        "2030-01-01T00:00:00", "2030-02-01T00:00:00", true)
+                        .header(HEADER_USER_ID, 23)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].start", is("2030-01-01T00:00:00")))
+                .andExpect(jsonPath("$[0].end", is("2030-01-10T12:00:00")));
+    }
+
     @Test
     void shouldReturnOkAndCreatedCommentWhenCreateComment() throws Exception {
         when(itemService.createComment(any(), any(), any(), any()))
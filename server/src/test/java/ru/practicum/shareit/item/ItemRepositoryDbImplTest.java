@@ -4,19 +4,69 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 class ItemRepositoryDbImplTest extends ItemRepositoryTest {
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
     @Autowired
     ItemRepositoryDbImplTest(
             @Qualifier("itemRepositoryDbImpl") ItemRepository itemRepository,
             @Qualifier("userRepositoryDbImpl") UserRepository userRepository,
-            ItemRequestRepository itemRequestRepository) {
+            ItemRequestRepository itemRequestRepository,
+            PlatformTransactionManager transactionManager) {
         setItemRepository(itemRepository);
         setUserRepository(userRepository);
         setItemRequestRepository(itemRequestRepository);
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void itemCatalogueIsChangedOnlyAfterCommit() {
+        User user = transactionTemplate.execute(status -> userRepository.create(new User("catalogueUserName", "catalogueUserEmail")));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.create(new Item("Screwdriver", "Works on batteries", true, user, null));
+            assertEquals(1, itemRepository.searchItems("screw", 0, 10).size());
+            status.setRollbackOnly();
+        });
+        assertTrue(itemRepository.searchItems("screw", 0, 10).isEmpty());
+
+        Item screwdriver = transactionTemplate.execute(status ->
+                itemRepository.create(new Item("Screwdriver", "Works on batteries", true, user, null)));
+        assertEquals(List.of(screwdriver.getId()), getIds(itemRepository.searchItems("screw", 0, 10)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.deleteAllByOwnerId(user.getId());
+            assertTrue(itemRepository.searchItems("screw", 0, 10).isEmpty());
+            status.setRollbackOnly();
+        });
+        assertEquals(List.of(screwdriver.getId()), getIds(itemRepository.searchItems("screw", 0, 10)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.deleteAllByOwnerId(user.getId());
+            userRepository.deleteById(user.getId());
+        });
+        assertTrue(itemRepository.searchItems("screw", 0, 10).isEmpty());
+    }
+
+    private List<Long> getIds(List<Item> items) {
+        return items.stream().map(Item::getId).collect(Collectors.toList());
     }
 
     @Test
@@ -37,6 +87,12 @@ class ItemRepositoryDbImplTest extends ItemRepositoryTest {
         super.getAllByOwnerId();
     }
 
+    @Test
+    @Override
+    void getAllByOwnerIdAfterId() {
+        super.getAllByOwnerIdAfterId();
+    }
+
     @Test
     @Override
     void getAllByOwnerIdPageable() {
@@ -79,6 +135,12 @@ class ItemRepositoryDbImplTest extends ItemRepositoryTest {
         super.searchItems();
     }
 
+    @Test
+    @Override
+    void searchItemsAfterId() {
+        super.searchItemsAfterId();
+    }
+
     @Test
     @Override
     void searchItemsPageable() {
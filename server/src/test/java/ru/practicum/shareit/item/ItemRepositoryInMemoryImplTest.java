@@ -37,6 +37,12 @@ class ItemRepositoryInMemoryImplTest extends ItemRepositoryTest {
         super.getAllByOwnerId();
     }
 
+    @Test
+    @Override
+    void getAllByOwnerIdAfterId() {
+        super.getAllByOwnerIdAfterId();
+    }
+
     @Override
     void getAllByOwnerIdPageable() {
     }
@@ -77,6 +83,12 @@ class ItemRepositoryInMemoryImplTest extends ItemRepositoryTest {
         super.searchItems();
     }
 
+    @Test
+    @Override
+    void searchItemsAfterId() {
+        super.searchItemsAfterId();
+    }
+
     @Override
     void searchItemsPageable() {
     }
@@ -147,6 +147,27 @@ abstract class ItemRepositoryTest {
         assertTrue(pagedSavedUsersItems.isEmpty());
     }
 
+    @Transactional
+    void getAllByOwnerIdAfterId() {
+        NullPointerException nullPointerException = assertThrows(NullPointerException.class,
+                () -> itemRepository.getAllByOwnerIdAfterId(null, 0L, 10));
+        assertEquals("Owner id must not be null", nullPointerException.getMessage());
+
+        User user = createOneUser("userName", "userEmail");
+        nullPointerException = assertThrows(NullPointerException.class,
+                () -> itemRepository.getAllByOwnerIdAfterId(user.getId(), null, 10));
+        assertEquals("After id must not be null", nullPointerException.getMessage());
+
+        List<Item> usersItems = createThreeItems(user);
+        createOneItem("Snowboard", "Three years old", true, createOneUser("otherUser", "otherEmail"));
+        usersItems.add(createOneItem("Tent", "Waterproof", false, user));
+
+        assertEquals(usersItems.subList(0, 2), itemRepository.getAllByOwnerIdAfterId(user.getId(), 0L, 2));
+        assertEquals(usersItems.subList(2, 4),
+                itemRepository.getAllByOwnerIdAfterId(user.getId(), usersItems.get(1).getId(), 2));
+        assertTrue(itemRepository.getAllByOwnerIdAfterId(user.getId(), usersItems.get(3).getId(), 2).isEmpty());
+    }
+
     @Transactional
     void create() {
         NullPointerException nullPointerException = assertThrows(NullPointerException.class,
@@ -515,6 +536,25 @@ abstract class ItemRepositoryTest {
         assertTrue(searchForBatteryPageable.isEmpty());
     }
 
+    @Transactional
+    void searchItemsAfterId() {
+        NullPointerException nullPointerException = assertThrows(NullPointerException.class,
+                () -> itemRepository.searchItemsAfterId("batt", null, 10));
+        assertEquals("After id must not be null", nullPointerException.getMessage());
+
+        User user = createOneUser("userName", "userEmail");
+        Item availableScrewdriver = createOneItem("Screwdriver", "Works on batteries", true, user);
+        createOneItem("Battery drill", "Works on batteries", false, user);
+        Item availableDrill = createOneItem("Battery drill", "Works on batteries", true, user);
+        Item availableToyCar = createOneItem("RC toy car", "Batteries NOT INCLUDED", true, user);
+
+        assertEquals(List.of(availableScrewdriver, availableDrill), itemRepository.searchItemsAfterId("batt", 0L, 2));
+        assertEquals(List.of(availableToyCar),
+                itemRepository.searchItemsAfterId("batt", availableDrill.getId(), 2));
+        assertTrue(itemRepository.searchItemsAfterId("batt", availableToyCar.getId(), 2).isEmpty());
+        assertTrue(itemRepository.searchItemsAfterId(" ", 0L, 2).isEmpty());
+    }
+
     @Transactional
     void checkForPresenceById() {
         NullPointerException nullPointerException = assertThrows(NullPointerException.class,
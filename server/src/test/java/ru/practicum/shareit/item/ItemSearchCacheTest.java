@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemSearchCacheTest {
+    private final ItemCatalogue itemCatalogue = new ItemCatalogue();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ItemSearchCache itemSearchCache = new ItemSearchCache(itemCatalogue, meterRegistry, 100);
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void get() {
+        Supplier<List<ItemDto>> search = () -> {
+            searches.incrementAndGet();
+            return List.of(new ItemDto("Drill", "Works on batteries", true, null, null, null));
+        };
+
+        assertEquals(1, itemSearchCache.get("drill", 0, 10, search).size());
+        assertEquals(1, itemSearchCache.get("drill", 0, 10, search).size());
+        assertEquals(1, itemSearchCache.get("DRILL", 0, 10, search).size());
+        assertEquals(1, searches.get());
+
+        itemSearchCache.get("drill", 10, 10, search);
+        itemSearchCache.get("drill", 0, 5, search);
+        itemSearchCache.get("ladder", 0, 10, search);
+        assertEquals(4, searches.get());
+
+        assertEquals(2.0 / 6, meterRegistry.get("item.search.cache.hit.ratio").gauge().value(), 1e-9);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void getAfterItemCatalogueChange() {
+        Supplier<List<ItemDto>> search = () -> {
+            searches.incrementAndGet();
+            return List.of();
+        };
+        Item drill = new Item("Drill", "Works on batteries", true, null, null);
+        drill.setId(1L);
+
+        itemSearchCache.get("drill", 0, 10, search);
+        itemCatalogue.put(drill);
+        itemSearchCache.get("drill", 0, 10, search);
+        itemSearchCache.get("drill", 0, 10, search);
+        assertEquals(2, searches.get());
+
+        itemCatalogue.remove(drill.getId());
+        itemSearchCache.get("drill", 0, 10, search);
+        assertEquals(3, searches.get());
+    }
+}
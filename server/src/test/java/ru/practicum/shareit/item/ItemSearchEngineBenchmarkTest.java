@@ -0,0 +1,111 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ItemSearchEngineBenchmarkTest {
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int SEARCHES = 200;
+    private static final List<String> QUERIES = List.of("drill", "ladder", "tent", "qz", "battery pack");
+
+    private final ItemRepositoryDbInterface itemRepositoryDbInterface;
+    private final ItemChangeRepository itemChangeRepository;
+    private final UserRepositoryDbInterface userRepositoryDbInterface;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Integer> itemCounts;
+
+    @Autowired
+    ItemSearchEngineBenchmarkTest(ItemRepositoryDbInterface itemRepositoryDbInterface,
+                                  ItemChangeRepository itemChangeRepository,
+                                  UserRepositoryDbInterface userRepositoryDbInterface,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${benchmark.item-counts:10000,100000,1000000}") List<Integer> itemCounts) {
+        this.itemRepositoryDbInterface = itemRepositoryDbInterface;
+        this.itemChangeRepository = itemChangeRepository;
+        this.userRepositoryDbInterface = userRepositoryDbInterface;
+        this.jdbcTemplate = jdbcTemplate;
+        this.itemCounts = itemCounts;
+    }
+
+    @AfterEach
+    void clearRepositories() {
+        itemRepositoryDbInterface.deleteAllInBatch();
+        userRepositoryDbInterface.deleteAllInBatch();
+    }
+
+    @Test
+    void searchItems() {
+        User owner = userRepositoryDbInterface.save(new User("owner", "owner@mail.com"));
+        Random random = new Random(42);
+        int insertedItems = 0;
+        for (Integer itemCount : itemCounts) {
+            insertItems(owner, itemCount - insertedItems, random);
+            insertedItems = itemCount;
+
+            ItemCatalogue itemCatalogue = new ItemCatalogue();
+            new ItemCatalogueLoader(itemRepositoryDbInterface, itemChangeRepository, itemCatalogue,
+                    new SimpleMeterRegistry(), INSERT_BATCH_SIZE).run(null);
+            double catalogueMicros = measureSearch(
+                    new ItemSearchEngineCatalogueImpl(itemRepositoryDbInterface, itemCatalogue));
+            double databaseMicros = measureSearch(new ItemSearchEngineDbImpl(itemRepositoryDbInterface));
+            log.info("Item search with {} items: catalogue = {} us/search, database = {} us/search",
+                    itemCount, String.format("%.1f", catalogueMicros), String.format("%.1f", databaseMicros));
+            assertEquals(itemCount, itemCatalogue.size());
+        }
+    }
+
+    private void insertItems(User owner, int count, Random random) {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{randomText(random, 2), randomText(random, 8), true, owner.getId()});
+            if (batch.size() == INSERT_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO ITEMS (ITEM_NAME, DESCRIPTION, AVAILABLE, OWNER_ID) " +
+                        "VALUES (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private double measureSearch(ItemSearchEngine itemSearchEngine) {
+        for (int i = 0; i < SEARCHES / 10; i++) {
+            itemSearchEngine.searchItems(QUERIES.get(i % QUERIES.size()), 0, 10);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) {
+            itemSearchEngine.searchItems(QUERIES.get(i % QUERIES.size()), 0, 10);
+        }
+        return (System.nanoTime() - start) / 1000.0 / SEARCHES;
+    }
+
+    private String randomText(Random random, int words) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                result.append(' ');
+            }
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                result.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return result.toString();
+    }
+}
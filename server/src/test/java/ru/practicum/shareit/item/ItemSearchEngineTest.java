@@ -0,0 +1,195 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepositoryDbInterface;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ItemSearchEngineTest {
+    private final ItemRepositoryDbInterface itemRepositoryDbInterface;
+    private final ItemChangeRepository itemChangeRepository;
+    private final UserRepositoryDbInterface userRepositoryDbInterface;
+    private final BookingRepository bookingRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @Autowired
+    ItemSearchEngineTest(ItemRepositoryDbInterface itemRepositoryDbInterface,
+                         ItemChangeRepository itemChangeRepository,
+                         UserRepositoryDbInterface userRepositoryDbInterface,
+                         BookingRepository bookingRepository) {
+        this.itemRepositoryDbInterface = itemRepositoryDbInterface;
+        this.itemChangeRepository = itemChangeRepository;
+        this.userRepositoryDbInterface = userRepositoryDbInterface;
+        this.bookingRepository = bookingRepository;
+    }
+
+    List<Item> createItems() {
+        itemRepositoryDbInterface.deleteAll();
+        User owner = userRepositoryDbInterface.save(new User("owner", "owner@mail.com"));
+        return itemRepositoryDbInterface.saveAll(List.of(
+                new Item("Screwdriver", "Works on batteries", true, owner, null),
+                new Item("Battery drill", "Works on batteries", true, owner, null),
+                new Item("RC toy car", "Batteries NOT INCLUDED, 100% fun", true, owner, null),
+                new Item("Hammer", "Very strong!", false, owner, null),
+                new Item("Snow_board", "New!", true, owner, null)
+        ));
+    }
+
+    void createBookings(List<Item> items) {
+        User booker = userRepositoryDbInterface.save(new User("booker", "booker@mail.com"));
+        createBooking(items.get(0), booker, now.plusDays(1), now.plusDays(3), BookingStatus.APPROVED);
+        createBooking(items.get(1), booker, now.plusDays(1), now.plusDays(3), BookingStatus.WAITING);
+        createBooking(items.get(2), booker, now.plusDays(5), now.plusDays(6), BookingStatus.APPROVED);
+    }
+
+    void createBooking(Item item, User booker, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        Booking booking = new Booking(start, end, booker, item);
+        booking.setStatus(status);
+        bookingRepository.save(booking);
+    }
+
+    List<Long> search(ItemSearchEngine itemSearchEngine, String query, Integer from, Integer size) {
+        return itemSearchEngine.searchItems(query, from, size).stream().map(Item::getId).collect(Collectors.toList());
+    }
+
+    void checkSearchItems(ItemSearchEngine itemSearchEngine, List<Item> items) {
+        assertEquals(List.of(items.get(0).getId(), items.get(1).getId(), items.get(2).getId()),
+                search(itemSearchEngine, "batt", 0, 10));
+        assertEquals(List.of(items.get(2).getId()), search(itemSearchEngine, "batt", 2, 2));
+        assertEquals(List.of(items.get(1).getId()), search(itemSearchEngine, "batt", 1, 1));
+        assertTrue(search(itemSearchEngine, "batt", 3, 3).isEmpty());
+        assertTrue(search(itemSearchEngine, "hammer", 0, 10).isEmpty());
+        assertEquals(List.of(items.get(2).getId()), search(itemSearchEngine, "100%", 0, 10));
+        assertTrue(search(itemSearchEngine, "0%f", 0, 10).isEmpty());
+        assertEquals(List.of(items.get(4).getId()), search(itemSearchEngine, "w_b", 0, 10));
+        assertTrue(search(itemSearchEngine, "s_r", 0, 10).isEmpty());
+    }
+
+    List<Long> search(ItemSearchEngine itemSearchEngine, String query, LocalDateTime start, LocalDateTime end,
+                      Integer from, Integer size) {
+        return itemSearchEngine.searchItems(query, start, end, from, size).stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
+    void checkSearchItemsFreeBetween(ItemSearchEngine itemSearchEngine, List<Item> items) {
+        assertEquals(List.of(items.get(1).getId(), items.get(2).getId()),
+                search(itemSearchEngine, "batt", now.plusDays(2), now.plusDays(4), 0, 10));
+        assertEquals(List.of(items.get(1).getId()),
+                search(itemSearchEngine, "batt", now.plusDays(2), now.plusDays(4), 0, 1));
+        assertEquals(List.of(items.get(2).getId()),
+                search(itemSearchEngine, "batt", now.plusDays(2), now.plusDays(4), 1, 1));
+        assertEquals(List.of(items.get(1).getId()),
+                search(itemSearchEngine, "batt", now.plusDays(3), now.plusDays(5), 0, 10));
+        assertEquals(List.of(items.get(0).getId(), items.get(1).getId(), items.get(2).getId()),
+                search(itemSearchEngine, "batt", now.plusDays(7), now.plusDays(8), 0, 10));
+        assertTrue(search(itemSearchEngine, "screw", now.plusDays(2), now.plusDays(4), 0, 10).isEmpty());
+        assertTrue(search(itemSearchEngine, "hammer", now.plusDays(7), now.plusDays(8), 0, 10).isEmpty());
+    }
+
+    List<Long> searchAfter(ItemSearchEngine itemSearchEngine, String query, Long afterId, Integer size) {
+        return itemSearchEngine.searchItemsAfter(query, afterId, size).stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
+    List<Long> searchAfter(ItemSearchEngine itemSearchEngine, String query, LocalDateTime start, LocalDateTime end,
+                           Long afterId, Integer size) {
+        return itemSearchEngine.searchItemsAfter(query, start, end, afterId, size).stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
+    void checkSearchItemsAfter(ItemSearchEngine itemSearchEngine, List<Item> items) {
+        assertEquals(List.of(items.get(0).getId(), items.get(1).getId()),
+                searchAfter(itemSearchEngine, "batt", 0L, 2));
+        assertEquals(List.of(items.get(2).getId()),
+                searchAfter(itemSearchEngine, "batt", items.get(1).getId(), 2));
+        assertTrue(searchAfter(itemSearchEngine, "batt", items.get(2).getId(), 2).isEmpty());
+        assertEquals(List.of(items.get(4).getId()),
+                searchAfter(itemSearchEngine, "w_b", items.get(0).getId(), 10));
+        assertEquals(List.of(items.get(1).getId()),
+                searchAfter(itemSearchEngine, "batt", now.plusDays(2), now.plusDays(4), 0L, 1));
+        assertEquals(List.of(items.get(2).getId()),
+                searchAfter(itemSearchEngine, "batt", now.plusDays(2), now.plusDays(4), items.get(1).getId(), 1));
+        assertTrue(searchAfter(itemSearchEngine, "batt", now.plusDays(3), now.plusDays(5),
+                items.get(1).getId(), 10).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void searchItemsInCatalogue() {
+        List<Item> items = createItems();
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        new ItemCatalogueLoader(itemRepositoryDbInterface, itemChangeRepository, itemCatalogue,
+                new SimpleMeterRegistry(), 2).run(null);
+
+        checkSearchItems(new ItemSearchEngineCatalogueImpl(itemRepositoryDbInterface, itemCatalogue), items);
+    }
+
+    @Test
+    @Transactional
+    void searchItemsInDatabase() {
+        List<Item> items = createItems();
+
+        checkSearchItems(new ItemSearchEngineDbImpl(itemRepositoryDbInterface), items);
+    }
+
+    @Test
+    @Transactional
+    void searchItemsFreeBetweenInCatalogue() {
+        List<Item> items = createItems();
+        createBookings(items);
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        new ItemCatalogueLoader(itemRepositoryDbInterface, itemChangeRepository, itemCatalogue,
+                new SimpleMeterRegistry(), 2).run(null);
+
+        checkSearchItemsFreeBetween(new ItemSearchEngineCatalogueImpl(itemRepositoryDbInterface, itemCatalogue),
+                items);
+    }
+
+    @Test
+    @Transactional
+    void searchItemsFreeBetweenInDatabase() {
+        List<Item> items = createItems();
+        createBookings(items);
+
+        checkSearchItemsFreeBetween(new ItemSearchEngineDbImpl(itemRepositoryDbInterface), items);
+    }
+
+    @Test
+    @Transactional
+    void searchItemsAfterIdInCatalogue() {
+        List<Item> items = createItems();
+        createBookings(items);
+        ItemCatalogue itemCatalogue = new ItemCatalogue();
+        new ItemCatalogueLoader(itemRepositoryDbInterface, itemChangeRepository, itemCatalogue,
+                new SimpleMeterRegistry(), 2).run(null);
+
+        checkSearchItemsAfter(new ItemSearchEngineCatalogueImpl(itemRepositoryDbInterface, itemCatalogue), items);
+    }
+
+    @Test
+    @Transactional
+    void searchItemsAfterIdInDatabase() {
+        List<Item> items = createItems();
+        createBookings(items);
+
+        checkSearchItemsAfter(new ItemSearchEngineDbImpl(itemRepositoryDbInterface), items);
+    }
+}
@@ -7,9 +7,12 @@ import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.dto.SentBookingDto;
 import ru.practicum.shareit.exception.DataAccessException;
+import ru.practicum.shareit.etag.EntityTag;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.exception.PostingCommentWithoutCompletedBookingException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.FreePeriodDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.request.ItemRequestService;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
@@ -80,7 +83,7 @@ class ItemServiceImplTest {
                         List.of(now.plusDays(1), now.plusDays(2))),
 
                 bookingService.createBooking(items.get(0).getId(), users.get(2).getId(),
-                        List.of(now.minusDays(2), now.minusDays(1)))
+                        List.of(now.minusDays(4), now.minusDays(3)))
         );
         result.forEach(booking -> bookingService.updateBookingStatus(booking.getId(), users.get(0).getId(), true));
         return result;
@@ -198,6 +201,50 @@ class ItemServiceImplTest {
         assertTrue(item4.getComments().isEmpty());
     }
 
+    @Test
+    void getItemAvailability() {
+        List<UserDto> users = setUsers();
+        List<ItemDto> items = setItems(users);
+        LocalDateTime now = LocalDateTime.parse(setBookings(users, items).get(0).getStart()).plusDays(2);
+        bookingService.createBooking(items.get(0).getId(), users.get(2).getId(),
+                List.of(now.plusDays(3), now.plusDays(4)));
+
+        assertEquals(List.of(
+                freePeriod(now.minusDays(5), now.minusDays(4)),
+                freePeriod(now.minusDays(3), now.minusDays(2)),
+                freePeriod(now.minusDays(1), now.minusHours(1)),
+                freePeriod(now.minusMinutes(30), now.minusMinutes(1)),
+                freePeriod(now.plusMinutes(1), now.plusMinutes(30)),
+                freePeriod(now.plusHours(1), now.plusDays(1)),
+                freePeriod(now.plusDays(2), now.plusDays(5))
+        ), itemService.getItemAvailability(items.get(0).getId(), users.get(2).getId(),
+                now.minusDays(5), now.plusDays(5), false));
+        assertEquals(List.of(
+                freePeriod(now.plusHours(1), now.plusDays(1)),
+                freePeriod(now.plusDays(2), now.plusDays(3)),
+                freePeriod(now.plusDays(4), now.plusDays(5))
+        ), itemService.getItemAvailability(items.get(0).getId(), users.get(2).getId(),
+                now.plusMinutes(45), now.plusDays(5), true));
+        assertEquals(List.of(freePeriod(now.minusMinutes(30), now.minusMinutes(1))),
+                itemService.getItemAvailability(items.get(0).getId(), users.get(0).getId(),
+                        now.minusMinutes(45), now, false));
+        assertTrue(itemService.getItemAvailability(items.get(0).getId(), users.get(0).getId(),
+                now.minusDays(4).plusHours(1), now.minusDays(3).minusHours(1), false).isEmpty());
+        assertEquals(List.of(freePeriod(now.minusDays(5), now.plusDays(5))),
+                itemService.getItemAvailability(items.get(3).getId(), users.get(0).getId(),
+                        now.minusDays(5), now.plusDays(5), true));
+
+        assertThrows(ObjectNotFoundException.class, () -> itemService.getItemAvailability(
+                100L, users.get(0).getId(), now.minusDays(5), now.plusDays(5), false));
+        assertThrows(ObjectNotFoundException.class, () -> itemService.getItemAvailability(
+                items.get(0).getId(), 100L, now.minusDays(5), now.plusDays(5), false));
+    }
+
+    FreePeriodDto freePeriod(LocalDateTime start, LocalDateTime end) {
+        return new FreePeriodDto(start.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                end.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
     @Test
     void createItem() {
         UserDto requester = userService.createUser(new UserDto("requester", "requester@mail.com"));
@@ -241,29 +288,61 @@ class ItemServiceImplTest {
 
         DataAccessException dataAccessException = assertThrows(DataAccessException.class,
                 () -> itemService.updateItem(new ItemDto("updatedName1", "updatedDesc1", true, null, null, null),
-                        itemNotByRequest.getId(), requester.getId()));
+                        itemNotByRequest.getId(), requester.getId(), null));
         assertEquals("Can not update someone else's item", dataAccessException.getMessage());
 
         ObjectNotFoundException objectNotFoundException = assertThrows(ObjectNotFoundException.class,
                 () -> itemService.updateItem(new ItemDto("updatedName2", "updatedDesc2", true, null, null, 9999L),
-                        itemNotByRequest.getId(), owner.getId()));
+                        itemNotByRequest.getId(), owner.getId(), null));
         assertEquals("Item request with id = 9999 not found", objectNotFoundException.getMessage());
 
         ItemDto nowItemByFirstRequest = itemService.updateItem(
                 new ItemDto("updatedName3", "updatedDesc3", true, null, null, firstRequest.getId()),
-                itemNotByRequest.getId(), owner.getId()
+                itemNotByRequest.getId(), owner.getId(), null
         );
         assertNotNull(nowItemByFirstRequest.getRequestId());
         assertEquals(firstRequest.getId(), nowItemByFirstRequest.getRequestId());
 
         ItemDto nowItemBySecondRequest = itemService.updateItem(
                 new ItemDto("updatedName5", "updatedDesc5", true, null, null, secondRequest.getId()),
-                itemByFirstRequest.getId(), owner.getId()
+                itemByFirstRequest.getId(), owner.getId(), null
         );
         assertNotNull(nowItemBySecondRequest.getRequestId());
         assertEquals(secondRequest.getId(), nowItemBySecondRequest.getRequestId());
     }
 
+    @Test
+    void updateItemWithIfMatch() {
+        UserDto owner = userService.createUser(new UserDto("owner", "owner@mail.com"));
+        UserDto notOwner = userService.createUser(new UserDto("notOwner", "notOwner@mail.com"));
+        ItemDto item = itemService.createItem(new ItemDto("item", "desc", true, null, null, null), owner.getId());
+        EntityTag ownerTag = itemService.getTaggedItemById(item.getId(), owner.getId()).getEntityTag();
+        EntityTag notOwnerTag = itemService.getTaggedItemById(item.getId(), notOwner.getId()).getEntityTag();
+        assertEquals(0L, ownerTag.getVersion());
+        assertNotEquals(ownerTag.getValue(), notOwnerTag.getValue());
+        assertEquals(ownerTag, itemService.getTaggedItemById(item.getId(), owner.getId()).getEntityTag());
+
+        itemService.updateItem(new ItemDto("updatedName1", null, null, null, null, null),
+                item.getId(), owner.getId(), ownerTag.getValue());
+        EntityTag updatedOwnerTag = itemService.getTaggedItemById(item.getId(), owner.getId()).getEntityTag();
+        assertEquals(1L, updatedOwnerTag.getVersion());
+        assertNotEquals(ownerTag.getValue(), updatedOwnerTag.getValue());
+        assertNotEquals(notOwnerTag.getValue(),
+                itemService.getTaggedItemById(item.getId(), notOwner.getId()).getEntityTag().getValue());
+
+        PreconditionFailedException preconditionFailedException = assertThrows(PreconditionFailedException.class,
+                () -> itemService.updateItem(new ItemDto("updatedName2", null, null, null, null, null),
+                        item.getId(), owner.getId(), ownerTag.getValue()));
+        assertEquals(String.format("Item with id = %s has been modified", item.getId()),
+                preconditionFailedException.getMessage());
+        assertEquals("updatedName1", itemService.getItemById(item.getId(), owner.getId()).getName());
+
+        ItemDto updatedItem = itemService.updateItem(new ItemDto("updatedName3", null, null, null, null, null),
+                item.getId(), owner.getId(), "*");
+        assertEquals("updatedName3", updatedItem.getName());
+        assertEquals(2L, itemService.getTaggedItemById(item.getId(), owner.getId()).getEntityTag().getVersion());
+    }
+
     @Test
     void deleteItemById() {
         UserDto owner = userService.createUser(new UserDto("owner", "owner@mail.com"));
@@ -6,8 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
@@ -16,11 +19,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -106,15 +114,32 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[0].items[0].comments", is(empty())));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenGetItemRequestByIdWithMatchingETag() throws Exception {
+        when(itemRequestService.getTaggedItemRequestById(any(), any()))
+                .thenReturn(new Tagged<>(EntityTag.of(0L, "53:2"),
+                        () -> fail("Item request DTO must not be built when it has not been modified")));
+
+        mvc.perform(get("/requests/{requestId}", 42)
+                        .header(HEADER_USER_ID, 17)
+                        .header(HttpHeaders.IF_NONE_MATCH, EntityTag.of(0L, "53:2").getValue())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(itemRequestService, times(1)).getTaggedItemRequestById(any(), any());
+    }
+
     @Test
     void shouldReturnOkAndItemRequestDtoWhenGetItemRequestById() throws Exception {
-        when(itemRequestService.getItemRequestById(any(), any()))
-                .thenReturn(itemRequest);
+        when(itemRequestService.getTaggedItemRequestById(any(), any()))
+                .thenReturn(new Tagged<>(EntityTag.of(0L, "53:2"), () -> itemRequest));
 
         mvc.perform(get("/requests/{requestId}", 42)
                         .header(HEADER_USER_ID, 17)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, EntityTag.of(0L, "53:2").getValue()))
                 .andExpect(jsonPath("$.id", is(itemRequest.getId()), Long.class))
                 .andExpect(jsonPath("$.description", is(itemRequest.getDescription())))
                 .andExpect(jsonPath("$.created", is(itemRequest.getCreated())))
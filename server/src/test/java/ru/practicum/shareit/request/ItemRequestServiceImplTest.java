@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.etag.EntityTag;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -44,6 +45,32 @@ class ItemRequestServiceImplTest {
         return itemRequestService.createItemRequest(new ItemRequestDto(description, null), creatorId, created);
     }
 
+    @Test
+    void shouldChangeEntityTagOfItemRequestWhenItemsOfItemRequestChange() {
+        UserDto creator = createUser("creatorName", "creator@mail.com");
+        UserDto owner = createUser("ownerName", "owner@mail.com");
+        ItemRequestDto itemRequest = createItemRequest("description", creator.getId(), now);
+        EntityTag withoutItems = itemRequestService.getTaggedItemRequestById(itemRequest.getId(), owner.getId())
+                .getEntityTag();
+        assertThat(itemRequestService.getTaggedItemRequestById(itemRequest.getId(), creator.getId())
+                .getEntityTag(), is(withoutItems));
+
+        ItemDto item = createItem(itemRequest.getId(), owner.getId());
+        EntityTag withItem = itemRequestService.getTaggedItemRequestById(itemRequest.getId(), creator.getId())
+                .getEntityTag();
+        assertThat(withItem.getValue(), not(withoutItems.getValue()));
+
+        itemService.updateItem(new ItemDto("updatedName", null, null, null, null, null), item.getId(),
+                owner.getId(), null);
+        EntityTag withUpdatedItem = itemRequestService.getTaggedItemRequestById(itemRequest.getId(), creator.getId())
+                .getEntityTag();
+        assertThat(withUpdatedItem.getValue(), not(withItem.getValue()));
+        assertThat(withUpdatedItem.getVersion(), is(withoutItems.getVersion()));
+
+        assertThrows(ObjectNotFoundException.class,
+                () -> itemRequestService.getTaggedItemRequestById(9999L, creator.getId()));
+    }
+
     @Test
     void shouldReturnListOfItemRequestsSortedByCreatedDescendingWhenGetAllItemRequestsByCreatorId() {
         UserDto creator = createUser("creatorName", "creator@mail.com");
@@ -6,9 +6,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.exception.InvalidCursorException;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.page.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserRepository;
@@ -136,7 +139,7 @@ class ItemRequestServiceImplUnitTest {
     void shouldReturnListOfItemRequestsSortedByCreatedDescendingWhenGetAllItemRequestsByUserId() {
         ItemRequestService itemRequestService = getItemRequestService();
 
-        when(itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDesc(17L, PageRequest.of(0, 10)))
+        when(itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDescIdDesc(17L, PageRequest.of(0, 10)))
                 .thenReturn(new PageImpl<>(List.of()));
         when(itemRepository.getAllItemsByRequestIds(List.of()))
                 .thenReturn(List.of());
@@ -151,7 +154,7 @@ class ItemRequestServiceImplUnitTest {
 
         User user = createUser("userName", "userEmail", 32L);
 
-        when(itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDesc(user.getId(), PageRequest.of(0, 10)))
+        when(itemRequestRepository.findAllByCreatorIdNotOrderByCreatedDescIdDesc(user.getId(), PageRequest.of(0, 10)))
                 .thenReturn(new PageImpl<>(List.of(thirdItemRequest, secondItemRequest, firstItemRequest)));
 
         User owner = createUser("ownerName", "ownerEmail", 42L);
@@ -178,6 +181,27 @@ class ItemRequestServiceImplUnitTest {
         ));
     }
 
+    @Test
+    void shouldReturnListOfItemRequestsCreatedBeforeCursorWhenGetAllItemRequestsByUserIdWithCursor() {
+        ItemRequestService itemRequestService = getItemRequestService();
+
+        User requestCreator = createUser("creatorName", "creatorEmail", 25L);
+        ItemRequest itemRequest = createItemRequest("description", now.minusDays(3), requestCreator, 19L);
+        String cursor = PageCursor.of(now.minusDays(2).toString(), 45L).encode();
+
+        when(itemRequestRepository.findAllByCreatorIdNotBefore(32L, now.minusDays(2), 45L, PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of(itemRequest)));
+        when(itemRepository.getAllItemsByRequestIds(List.of(itemRequest.getId())))
+                .thenReturn(List.of());
+        List<ItemRequestDto> foundItemRequests = itemRequestService.getAllItemRequestsByUserIdAfter(32L, cursor, 10);
+        assertThat(foundItemRequests, hasSize(1));
+        assertThat(foundItemRequests.get(0).getId(), is(itemRequest.getId()));
+
+        InvalidCursorException invalidCursorException = assertThrows(InvalidCursorException.class,
+                () -> itemRequestService.getAllItemRequestsByUserIdAfter(32L, PageCursor.of(45L).encode(), 10));
+        assertThat(invalidCursorException.getMessage(), containsString("does not point to position"));
+    }
+
     @Test
     void shouldThrowObjectNotFoundExceptionWhenGetItemRequestByIdWithUserNotFound() {
         ItemRequestService itemRequestService = getItemRequestService();
@@ -6,17 +6,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.etag.Tagged;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +43,8 @@ class UserControllerTest {
             "email@mail.com"
     );
 
+    private static final EntityTag entityTag = EntityTag.of(5L);
+
     static {
         user.setId(42L);
     }
@@ -54,17 +64,33 @@ class UserControllerTest {
 
     @Test
     void shouldReturnOkAndUserDtoWhenGetUserById() throws Exception {
-        when(userService.getUserById(any()))
-                .thenReturn(user);
+        when(userService.getTaggedUserById(any()))
+                .thenReturn(new Tagged<>(entityTag, () -> user));
 
         mvc.perform(get("/users/{userId}", 42)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
                 .andExpect(jsonPath("$.id", is(user.getId()), Long.class))
                 .andExpect(jsonPath("$.name", is(user.getName())))
                 .andExpect(jsonPath("$.email", is(user.getEmail())));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenGetUserByIdWithMatchingETag() throws Exception {
+        when(userService.getTaggedUserById(any()))
+                .thenReturn(new Tagged<>(entityTag,
+                        () -> fail("User DTO must not be built when it has not been modified")));
+
+        mvc.perform(get("/users/{userId}", 42)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"4\", \"5\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(userService, times(1)).getTaggedUserById(any());
+    }
+
     @Test
     void shouldReturnCreatedAndUserDtoWhenCreateUser() throws Exception {
         when(userService.createUser(any()))
@@ -83,7 +109,7 @@ class UserControllerTest {
 
     @Test
     void shouldReturnOkAndUserDtoWhenUpdateUser() throws Exception {
-        when(userService.updateUser(any(), any()))
+        when(userService.updateUser(any(), any(), any()))
                 .thenReturn(user);
 
         mvc.perform(patch("/users/{userId}", 42)
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.etag.EntityTag;
+import ru.practicum.shareit.exception.ObjectNotFoundException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class UserServiceImplTest {
+    private final UserService userService;
+
+    @Test
+    void shouldChangeEntityTagWhenUpdateUser() {
+        UserDto user = userService.createUser(new UserDto("user", "user@mail.com"));
+        EntityTag entityTag = userService.getTaggedUserById(user.getId()).getEntityTag();
+        assertEquals("\"0\"", entityTag.getValue());
+
+        userService.updateUser(new UserDto("updatedUser", null), user.getId(), null);
+
+        assertEquals("\"1\"", userService.getTaggedUserById(user.getId()).getEntityTag().getValue());
+        assertThrows(ObjectNotFoundException.class, () -> userService.getTaggedUserById(9999L));
+    }
+
+    @Test
+    void shouldUpdateUserOnlyWhenIfMatchIsCurrentEntityTag() {
+        UserDto user = userService.createUser(new UserDto("user", "user@mail.com"));
+        String entityTag = userService.getTaggedUserById(user.getId()).getEntityTag().getValue();
+
+        UserDto updatedUser = userService.updateUser(new UserDto("updatedUser", null), user.getId(),
+                "\"7\", " + entityTag);
+        assertEquals("updatedUser", updatedUser.getName());
+
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> userService.updateUser(new UserDto("lostUpdate", null), user.getId(), entityTag));
+        assertEquals(String.format("User with id = %s has been modified", user.getId()), exception.getMessage());
+        assertEquals("updatedUser", userService.getUserById(user.getId()).getName());
+    }
+}